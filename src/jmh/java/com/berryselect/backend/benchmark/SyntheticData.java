@@ -0,0 +1,208 @@
+package com.berryselect.backend.benchmark;
+
+import com.berryselect.backend.benefits.domain.BenefitRule;
+import com.berryselect.backend.benefits.domain.BenefitRuleLimit;
+import com.berryselect.backend.benefits.domain.BenefitRuleScope;
+import com.berryselect.backend.benefits.repository.BenefitRuleLimitRepository;
+import com.berryselect.backend.benefits.repository.BenefitRuleRepository;
+import com.berryselect.backend.benefits.repository.BenefitRuleScopeRepository;
+import com.berryselect.backend.benefits.service.BenefitRuleIndex;
+import com.berryselect.backend.merchant.domain.Category;
+import com.berryselect.backend.wallet.domain.Brand;
+import com.berryselect.backend.wallet.domain.Product;
+import com.berryselect.backend.wallet.domain.UserAsset;
+import com.berryselect.backend.wallet.domain.type.AssetType;
+import com.berryselect.backend.wallet.domain.type.GifticonStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 벤치마크용 합성 룰/자산 생성기
+ * - 시드 고정으로 실행마다 같은 데이터
+ * - 룰 구성: 퍼센트 50% / 천원당 20% / 정액 30%, 스코프·한도는 실제 데이터와 비슷한 비율로 섞음
+ */
+public class SyntheticData {
+
+    public static final long MERCHANT_ID = 10L;
+    public static final long CATEGORY_ID = 3L;
+    public static final long BRAND_ID = 7L;
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    private final Random random;
+    private long nextRuleId = 1;
+    private long nextScopeId = 1;
+    private long nextLimitId = 1;
+
+    public SyntheticData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /** 상품 1개의 활성 룰 count 개 (scopes/limits 연관 포함) */
+    public List<BenefitRule> rules(long productId, int count) {
+        List<BenefitRule> rules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BenefitRule r = new BenefitRule();
+            r.setRuleId(nextRuleId++);
+            r.setSourceRefId(productId);
+            r.setIsActive(true);
+            r.setBenefitType("DISCOUNT");
+            r.setDescription("합성 혜택 " + r.getRuleId());
+
+            int kind = random.nextInt(10);
+            if (kind < 5) {
+                r.setValueType("RATE");
+                r.setValueRate(BigDecimal.valueOf(5 + random.nextInt(96), 3)); // 0.5% ~ 10%
+            } else if (kind < 7) {
+                r.setValueType("RATE");
+                r.setValueRate(BigDecimal.valueOf(50 + random.nextInt(151))); // 1000원당 50~200원
+            } else {
+                r.setValueType("AMOUNT");
+                r.setValueAmount(500 * (1 + random.nextInt(10)));
+            }
+            if (random.nextInt(3) == 0) r.setMinAmount(10_000 * (1 + random.nextInt(5)));
+            if (random.nextInt(2) == 0) r.setMaxBenefitAmount(1_000 * (1 + random.nextInt(20)));
+
+            r.setScopes(scopes(r));
+            r.setLimits(limits(r));
+            rules.add(r);
+        }
+        return rules;
+    }
+
+    private List<BenefitRuleScope> scopes(BenefitRule rule) {
+        List<BenefitRuleScope> scopes = new ArrayList<>();
+        if (random.nextInt(10) < 4) return scopes; // 40% 는 제한 없음
+
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            BenefitRuleScope s = new BenefitRuleScope();
+            s.setId(nextScopeId++);
+            s.setRule(rule);
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    s.setScopeType("CATEGORY");
+                    s.setCategoryId(random.nextBoolean() ? CATEGORY_ID : CATEGORY_ID + 1 + random.nextInt(20));
+                }
+                case 1 -> {
+                    s.setScopeType("BRAND");
+                    s.setBrandId(random.nextBoolean() ? BRAND_ID : BRAND_ID + 1 + random.nextInt(50));
+                }
+                case 2 -> {
+                    s.setScopeType("MERCHANT");
+                    s.setMerchantId(random.nextInt(4) == 0 ? MERCHANT_ID : MERCHANT_ID + 1 + random.nextInt(500));
+                }
+                case 3 -> {
+                    s.setScopeType("DAY_OF_WEEK");
+                    s.setDayOfWeek(DAYS[random.nextInt(7)] + "," + DAYS[random.nextInt(7)]);
+                }
+                default -> {
+                    s.setScopeType("TIME");
+                    int start = random.nextInt(24) * 60;
+                    s.setStartMinute(start);
+                    s.setEndMinute(Math.min(start + 180, 1439));
+                }
+            }
+            scopes.add(s);
+        }
+        return scopes;
+    }
+
+    private List<BenefitRuleLimit> limits(BenefitRule rule) {
+        List<BenefitRuleLimit> limits = new ArrayList<>();
+        if (random.nextBoolean()) {
+            limits.add(limit(rule, "MONTHLY", 10_000 * (1 + random.nextInt(5))));
+            if (random.nextInt(3) == 0) limits.add(limit(rule, "DAILY", 5_000));
+        }
+        return limits;
+    }
+
+    private BenefitRuleLimit limit(BenefitRule rule, String type, int amount) {
+        BenefitRuleLimit l = new BenefitRuleLimit();
+        l.setId(nextLimitId++);
+        l.setRule(rule);
+        l.setLimitType(type);
+        l.setLimitAmount(amount);
+        return l;
+    }
+
+    /** 사용자 자산 (상품 id 는 자산 id 와 동일하게 부여) */
+    public UserAsset asset(long id, long userId, AssetType type) {
+        Product p = new Product();
+        p.setId(id);
+        p.setProductType(type);
+        p.setName(type.name() + "-" + id);
+
+        UserAsset ua = new UserAsset();
+        ua.setId(id);
+        ua.setUserId(userId);
+        ua.setProduct(p);
+        ua.setAssetType(type);
+        return ua;
+    }
+
+    /**
+     * 카드/멤버십/기프티콘으로 구성된 합성 지갑 (자산마다 상품 1개, 상품마다 룰 rulesPerProduct 개)
+     */
+    public Wallet wallet(long userId, int cards, int memberships, int gifticons, int rulesPerProduct) {
+        List<UserAsset> assets = new ArrayList<>();
+        List<BenefitRule> rules = new ArrayList<>();
+        long id = 1;
+        for (int i = 0; i < cards; i++) assets.add(asset(id++, userId, AssetType.CARD));
+        for (int i = 0; i < memberships; i++) assets.add(asset(id++, userId, AssetType.MEMBERSHIP));
+        for (int i = 0; i < gifticons; i++) {
+            UserAsset g = asset(id++, userId, AssetType.GIFTICON);
+            g.setGifticonStatus(GifticonStatus.ACTIVE);
+            g.setBalance(5_000 * (1 + random.nextInt(6)));
+            g.setExpiresAt(LocalDate.now().plusDays(30));
+            assets.add(g);
+        }
+        for (UserAsset ua : assets) rules.addAll(rules(ua.getProduct().getId(), rulesPerProduct));
+        return new Wallet(assets, rules);
+    }
+
+    /** 스코프에서 참조될 수 있는 카테고리 (id: CATEGORY_ID ~ CATEGORY_ID + 20) */
+    public static List<Category> categories() {
+        List<Category> categories = new ArrayList<>();
+        for (long id = CATEGORY_ID; id <= CATEGORY_ID + 20; id++) {
+            categories.add(Category.builder().id(id).name("카테고리" + id).build());
+        }
+        return categories;
+    }
+
+    /** 스코프에서 참조될 수 있는 브랜드 (id: BRAND_ID ~ BRAND_ID + 50) */
+    public static List<Brand> brands() {
+        List<Brand> brands = new ArrayList<>();
+        for (long id = BRAND_ID; id <= BRAND_ID + 50; id++) {
+            brands.add(Brand.builder().id(id).name("브랜드" + id).categoryId(CATEGORY_ID).build());
+        }
+        return brands;
+    }
+
+    public record Wallet(List<UserAsset> assets, List<BenefitRule> rules) {}
+
+    /** DB 없이 주어진 룰로 빌드한 룰 인덱스 */
+    public static BenefitRuleIndex ruleIndex(List<BenefitRule> rules) {
+        BenefitRuleRepository ruleRepository = mock(BenefitRuleRepository.class);
+        BenefitRuleScopeRepository scopeRepository = mock(BenefitRuleScopeRepository.class);
+        BenefitRuleLimitRepository limitRepository = mock(BenefitRuleLimitRepository.class);
+
+        when(ruleRepository.findRuleTableVersion()).thenReturn("synthetic:" + rules.size());
+        when(ruleRepository.findAllActive()).thenReturn(rules);
+        when(scopeRepository.findAllOfActiveRules())
+                .thenReturn(rules.stream().flatMap(r -> r.getScopes().stream()).toList());
+        when(limitRepository.findAllOfActiveRules())
+                .thenReturn(rules.stream().flatMap(r -> r.getLimits().stream()).toList());
+
+        BenefitRuleIndex index = new BenefitRuleIndex(ruleRepository, scopeRepository, limitRepository);
+        index.rebuild();
+        return index;
+    }
+}
@@ -0,0 +1,209 @@
+package com.berryselect.backend.benefits.service;
+
+import com.berryselect.backend.benchmark.SyntheticData;
+import com.berryselect.backend.benefits.domain.BenefitRule;
+import com.berryselect.backend.benefits.domain.BenefitRuleLimit;
+import com.berryselect.backend.benefits.domain.BenefitRuleScope;
+import com.berryselect.backend.benefits.repository.UserBenefitCounterRepository;
+import com.berryselect.backend.benefits.service.BenefitCalculationService.CounterSnapshot;
+import com.berryselect.backend.benefits.service.BenefitCalculationService.RuleSaving;
+import com.berryselect.backend.wallet.domain.UserAsset;
+import com.berryselect.backend.wallet.domain.type.AssetType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 룰 평가 커널 벤치마크
+ * - legacy: 엔티티 기반 평가 (BigDecimal → double, 룰마다 시각/요일 문자열 계산, "SAT,SUN".contains)
+ * - kernel: 컴파일된 룰 + 요청 스냅샷 기반 원시 타입 평가
+ * 한도 사용량은 둘 다 메모리에서 읽어 순수 CPU 비용만 비교 ({@code -prof gc} 로 할당량 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BenefitEvaluationBenchmark {
+
+    private static final int AMOUNT = 37_500;
+
+    @Param({"10", "50", "200"})
+    public int rulesPerProduct;
+
+    @Param({"5", "20"})
+    public int assetCount;
+
+    private List<UserAsset> assets;
+    private Map<Long, List<BenefitRule>> rulesByProduct;
+    private BenefitCalculationService service;
+    private CounterSnapshot counters;
+    private LegacyEvaluator legacy;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42L);
+        assets = new ArrayList<>();
+        rulesByProduct = new HashMap<>();
+        List<BenefitRule> allRules = new ArrayList<>();
+        for (long id = 1; id <= assetCount; id++) {
+            assets.add(data.asset(id, 1L, AssetType.CARD));
+            List<BenefitRule> rules = data.rules(id, rulesPerProduct);
+            rulesByProduct.put(id, rules);
+            allRules.addAll(rules);
+        }
+
+        service = new BenefitCalculationService(
+                SyntheticData.ruleIndex(allRules), mock(UserBenefitCounterRepository.class));
+
+        // 한도 룰의 절반은 일부 사용된 상태
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        String dailyKey = today.toString();
+        String monthlyKey = today.format(DateTimeFormatter.ofPattern("yyyy-MM"));
+        Map<Long, int[]> used = new HashMap<>();
+        Map<String, Integer> legacyUsed = new HashMap<>();
+        for (BenefitRule r : allRules) {
+            if (r.getLimits().isEmpty() || r.getRuleId() % 2 == 0) continue;
+            used.put(r.getRuleId(), new int[]{1_000, 3_000, 1, 3});
+            legacyUsed.put(r.getRuleId() + ":" + dailyKey, 1_000);
+            legacyUsed.put(r.getRuleId() + ":" + monthlyKey, 3_000);
+        }
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        counters = new CounterSnapshot(dailyKey, monthlyKey,
+                BenefitRuleIndex.dayBit(now.getDayOfWeek()), now.getHour() * 60 + now.getMinute(), used);
+        legacy = new LegacyEvaluator(rulesByProduct, legacyUsed);
+    }
+
+    @Benchmark
+    public Map<UserAsset, List<RuleSaving>> legacyPerAssetRuleSave() {
+        return legacy.calculatePerAssetRuleSave(assets, AMOUNT,
+                SyntheticData.MERCHANT_ID, SyntheticData.CATEGORY_ID, SyntheticData.BRAND_ID);
+    }
+
+    @Benchmark
+    public Map<UserAsset, List<RuleSaving>> kernelPerAssetRuleSave() {
+        return service.calculatePerAssetRuleSave(assets, AMOUNT,
+                SyntheticData.MERCHANT_ID, SyntheticData.CATEGORY_ID, SyntheticData.BRAND_ID, counters);
+    }
+
+    @Benchmark
+    public void kernelBestRuleSave(Blackhole bh) {
+        for (UserAsset ua : assets) {
+            bh.consume(service.bestRuleSave(ua, AMOUNT,
+                    SyntheticData.MERCHANT_ID, SyntheticData.CATEGORY_ID, SyntheticData.BRAND_ID, counters));
+        }
+    }
+
+    /**
+     * 커널 도입 전 룰 평가 로직 (비교 기준)
+     */
+    static class LegacyEvaluator {
+        private final Map<Long, List<BenefitRule>> rulesByProduct;
+        private final Map<String, Integer> usedByRuleAndPeriod;
+
+        LegacyEvaluator(Map<Long, List<BenefitRule>> rulesByProduct, Map<String, Integer> usedByRuleAndPeriod) {
+            this.rulesByProduct = rulesByProduct;
+            this.usedByRuleAndPeriod = usedByRuleAndPeriod;
+        }
+
+        Map<UserAsset, List<RuleSaving>> calculatePerAssetRuleSave(
+                List<UserAsset> combo, int amount, Long merchantId, Long categoryId, Long brandId) {
+            Map<UserAsset, List<RuleSaving>> saveMap = new HashMap<>();
+            for (UserAsset ua : combo) {
+                List<RuleSaving> ruleSavings = new ArrayList<>();
+                for (BenefitRule rule : rulesByProduct.getOrDefault(ua.getProduct().getId(), List.of())) {
+                    if (!isRuleApplicable(rule, merchantId, categoryId, brandId)) continue;
+
+                    int benefit = calcBaseBenefit(rule, amount);
+                    if (rule.getMaxBenefitAmount() != null && rule.getMaxBenefitAmount() > 0) {
+                        benefit = Math.min(benefit, rule.getMaxBenefitAmount());
+                    }
+                    int remaining = getRemainingLimit(rule);
+                    if (remaining <= 0) continue;
+                    if (benefit > remaining) benefit = remaining;
+
+                    if (benefit > 0) {
+                        ruleSavings.add(new RuleSaving(rule.getDescription(), benefit, rule.getRuleId()));
+                    }
+                }
+                saveMap.put(ua, ruleSavings);
+            }
+            return saveMap;
+        }
+
+        private int calcBaseBenefit(BenefitRule rule, int amount) {
+            if (rule.getMinAmount() != null && amount < rule.getMinAmount()) return 0;
+
+            int benefit = 0;
+            if ("RATE".equals(rule.getValueType()) && rule.getValueRate() != null) {
+                double rate = rule.getValueRate().doubleValue();
+                if (rate < 1.0) {
+                    benefit = (int) Math.floor(amount * rate);
+                } else {
+                    benefit = (amount / 1000) * (int) rate;
+                }
+            } else if ("AMOUNT".equals(rule.getValueType()) && rule.getValueAmount() != null) {
+                benefit = rule.getValueAmount();
+            }
+            if (rule.getMaxBenefitAmount() != null && rule.getMaxBenefitAmount() > 0) {
+                benefit = Math.min(benefit, rule.getMaxBenefitAmount());
+            }
+            return Math.max(benefit, 0);
+        }
+
+        private boolean isRuleApplicable(BenefitRule rule, Long merchantId, Long categoryId, Long brandId) {
+            List<BenefitRuleScope> scopes = rule.getScopes();
+            if (scopes == null || scopes.isEmpty()) return true;
+
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+            String today = now.getDayOfWeek().toString().substring(0, 3);
+            int minutes = now.getHour() * 60 + now.getMinute();
+
+            for (BenefitRuleScope s : scopes) {
+                switch (s.getScopeType()) {
+                    case "DAY_OF_WEEK" -> {
+                        if (s.getDayOfWeek() != null && s.getDayOfWeek().contains(today)) return true;
+                    }
+                    case "TIME" -> {
+                        if (s.getStartMinute() != null && s.getEndMinute() != null &&
+                                minutes >= s.getStartMinute() && minutes <= s.getEndMinute()) return true;
+                    }
+                    case "CATEGORY" -> {
+                        if (Objects.equals(categoryId, s.getCategoryId())) return true;
+                    }
+                    case "BRAND" -> {
+                        if (Objects.equals(brandId, s.getBrandId())) return true;
+                    }
+                    case "MERCHANT" -> {
+                        if (Objects.equals(merchantId, s.getMerchantId())) return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private int getRemainingLimit(BenefitRule rule) {
+            if (rule.getLimits() == null || rule.getLimits().isEmpty()) return Integer.MAX_VALUE;
+
+            int remaining = Integer.MAX_VALUE;
+            for (BenefitRuleLimit l : rule.getLimits()) {
+                String key = makePeriodKey(l.getLimitType());
+                int used = usedByRuleAndPeriod.getOrDefault(rule.getRuleId() + ":" + key, 0);
+                int limit = l.getLimitAmount() != null ? l.getLimitAmount() : Integer.MAX_VALUE;
+                remaining = Math.min(remaining, limit - used);
+            }
+            return Math.max(remaining, 0);
+        }
+
+        private String makePeriodKey(String type) {
+            LocalDate now = LocalDate.now(ZoneOffset.UTC);
+            return "MONTHLY".equals(type) ? now.format(DateTimeFormatter.ofPattern("yyyy-MM")) : now.toString();
+        }
+    }
+}
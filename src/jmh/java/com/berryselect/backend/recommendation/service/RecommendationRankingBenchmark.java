@@ -0,0 +1,116 @@
+package com.berryselect.backend.recommendation.service;
+
+import com.berryselect.backend.benchmark.SyntheticData;
+import com.berryselect.backend.benefits.repository.UserBenefitCounterRepository;
+import com.berryselect.backend.benefits.service.BenefitCalculationService;
+import com.berryselect.backend.recommendation.service.RecommendationRankingService.RankedOption;
+import com.berryselect.backend.recommendation.service.RecommendationRankingService.RankingQuery;
+import com.berryselect.backend.wallet.repository.UserAssetRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 추천 조합 생성 + 랭킹 벤치마크
+ * - topK: 상위 20개 (가지치기 적용) / 전체 조합 (가지치기 없는 기존 방식과 같은 탐색량)
+ * - 자산/카운터 조회는 목(mock)으로 대체해 계산 비용만 측정
+ * - Parallel: 카드별 병렬 평가 모드 (임계값 0으로 항상 병렬)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommendationRankingBenchmark {
+
+    private static final long USER_ID = 1L;
+
+    @Param({"1", "5", "20"})
+    public int cards;
+
+    @Param({"0", "5", "15"})
+    public int memberships;
+
+    @Param({"10", "50", "200"})
+    public int rulesPerProduct;
+
+    private RecommendationRankingService rankingService;
+    private RecommendationRankingService parallelRankingService;
+    private ForkJoinPool pool;
+    private RankingQuery topQuery;
+    private RankingQuery fullQuery;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42L);
+        SyntheticData.Wallet wallet = data.wallet(USER_ID, cards, memberships, 3, rulesPerProduct);
+
+        UserAssetRepository userAssetRepository = mock(UserAssetRepository.class);
+        when(userAssetRepository.findByUserId(anyLong())).thenReturn(wallet.assets());
+        UserBenefitCounterRepository counterRepository = mock(UserBenefitCounterRepository.class);
+        when(counterRepository.findByUserIdAndRuleIdsAndPeriodKeys(anyLong(), any(), any())).thenReturn(List.of());
+
+        BenefitCalculationService calculationService =
+                new BenefitCalculationService(SyntheticData.ruleIndex(wallet.rules()), counterRepository);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        rankingService = new RecommendationRankingService(userAssetRepository, calculationService, pool);
+        parallelRankingService = new RecommendationRankingService(userAssetRepository, calculationService, pool);
+        set(parallelRankingService, "parallelEnabled", true);
+        set(parallelRankingService, "parallelMinCombos", 0L);
+
+        topQuery = query(20);
+        fullQuery = query(Integer.MAX_VALUE);
+
+        // 병렬 모드는 직렬과 같은 순위를 내야 함
+        if (!rankingService.rank(topQuery).equals(parallelRankingService.rank(topQuery))
+                || !rankingService.rank(fullQuery).equals(parallelRankingService.rank(fullQuery))) {
+            throw new IllegalStateException("병렬/직렬 랭킹 결과 불일치");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private static void set(Object target, String name, Object value) {
+        try {
+            Field f = RecommendationRankingService.class.getDeclaredField(name);
+            f.setAccessible(true);
+            f.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private RankingQuery query(int topK) {
+        return new RankingQuery(USER_ID, 37_500,
+                SyntheticData.MERCHANT_ID, SyntheticData.CATEGORY_ID, SyntheticData.BRAND_ID, true, topK);
+    }
+
+    @Benchmark
+    public List<RankedOption> rankTop20() {
+        return rankingService.rank(topQuery);
+    }
+
+    @Benchmark
+    public List<RankedOption> rankAllCombos() {
+        return rankingService.rank(fullQuery);
+    }
+
+    @Benchmark
+    public List<RankedOption> rankTop20Parallel() {
+        return parallelRankingService.rank(topQuery);
+    }
+
+    @Benchmark
+    public List<RankedOption> rankAllCombosParallel() {
+        return parallelRankingService.rank(fullQuery);
+    }
+}
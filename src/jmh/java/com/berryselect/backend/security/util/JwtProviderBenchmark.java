@@ -0,0 +1,52 @@
+package com.berryselect.backend.security.util;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 파싱 벤치마크
+ * - filterPath: JwtAuthenticationFilter 와 같은 순서(getUserId → getSubject → getRoles)로 요청당 처리
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtProvider = new JwtProvider();
+        set("secret", "benchmark-secret-key-benchmark-secret-key-0123456789");
+        set("accessTokenExpMs", 3_600_000L);
+        set("refreshTokenExpMs", 1_209_600_000L);
+        set("issuer", "berryselect_backend");
+        jwtProvider.init();
+
+        token = jwtProvider.createAccessToken(1234L, "kakao_1234", List.of("ROLE_USER"));
+    }
+
+    private void set(String name, Object value) throws Exception {
+        Field f = JwtProvider.class.getDeclaredField(name);
+        f.setAccessible(true);
+        f.set(jwtProvider, value);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public void filterPath(Blackhole bh) {
+        bh.consume(jwtProvider.getUserId(token));
+        bh.consume(jwtProvider.getSubject(token));
+        bh.consume(jwtProvider.getRoles(token));
+    }
+}
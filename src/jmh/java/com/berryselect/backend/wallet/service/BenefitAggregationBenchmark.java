@@ -0,0 +1,56 @@
+package com.berryselect.backend.wallet.service;
+
+import com.berryselect.backend.benchmark.SyntheticData;
+import com.berryselect.backend.benefits.repository.BenefitRuleRepository;
+import com.berryselect.backend.merchant.repository.CategoryRepository;
+import com.berryselect.backend.wallet.domain.UserAsset;
+import com.berryselect.backend.wallet.dto.response.CardBenefitsResponse;
+import com.berryselect.backend.wallet.repository.BrandRepository;
+import com.berryselect.backend.wallet.domain.type.AssetType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카드 혜택 화면용 카테고리별 그룹핑 벤치마크 (DB 조회는 목으로 대체)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BenefitAggregationBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int rulesPerProduct;
+
+    private BenefitAggregationService aggregationService;
+    private UserAsset card;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42L);
+        card = data.asset(1L, 1L, AssetType.CARD);
+        card.getProduct().setIssuer("합성카드");
+
+        BenefitRuleRepository ruleRepository = mock(BenefitRuleRepository.class);
+        when(ruleRepository.findActiveWithScopesByProductId(anyLong()))
+                .thenReturn(data.rules(card.getProduct().getId(), rulesPerProduct));
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findAllById(any())).thenReturn(SyntheticData.categories());
+        BrandRepository brandRepository = mock(BrandRepository.class);
+        when(brandRepository.findAllById(any())).thenReturn(SyntheticData.brands());
+
+        aggregationService = new BenefitAggregationService(ruleRepository, categoryRepository, brandRepository);
+    }
+
+    @Benchmark
+    public Map<String, List<CardBenefitsResponse.BenefitItem>> loadBenefitItemsGroupedByCategory() {
+        return aggregationService.loadBenefitItemsGroupedByCategory(card);
+    }
+}
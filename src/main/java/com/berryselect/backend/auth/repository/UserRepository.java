@@ -2,9 +2,12 @@ package com.berryselect.backend.auth.repository;
 
 import com.berryselect.backend.auth.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -17,4 +20,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.updatedAt >= :thirtyDaysAgo")
     List<User> findActiveUsers(@Param("thirtyDaysAgo") LocalDateTime thirtyDaysAgo);
 
+    // 갱신된 카카오 토큰 저장 (refresh_token은 새로 받은 경우에만 교체)
+    @Transactional
+    @Modifying
+    @Query("""
+      UPDATE User u
+         SET u.accessToken = :accessToken,
+             u.refreshToken = COALESCE(:refreshToken, u.refreshToken),
+             u.tokenExpiresAt = :expiresAt
+       WHERE u.id = :userId
+    """)
+    int updateKakaoToken(@Param("userId") Long userId,
+                         @Param("accessToken") String accessToken,
+                         @Param("refreshToken") String refreshToken,
+                         @Param("expiresAt") Instant expiresAt);
 }
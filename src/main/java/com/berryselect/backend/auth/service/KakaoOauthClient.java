@@ -33,6 +33,21 @@ public class KakaoOauthClient {
                 .block();
     }
 
+    // refresh_token으로 access_token 갱신 (refresh_token은 만료 임박 시에만 새로 내려옴)
+    public KakaoTokenResponse refreshAccessToken(String refreshToken){
+        return webClient.post()
+                .uri("https://kauth.kakao.com/oauth/token")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .bodyValue(
+                        "grant_type=refresh_token" +
+                                "&client_id=" + props.getRestKey()+
+                                "&refresh_token=" + refreshToken
+                )
+                .retrieve()
+                .bodyToMono(KakaoTokenResponse.class)
+                .block();
+    }
+
     // access_token으로 유저 정보 조회
     public KakaoUserResponse getUserMe(String kakaoAccessToken){
         return webClient.get()
@@ -1,4 +1,19 @@
 package com.berryselect.backend.benefits.repository;
 
-public class BenefitRuleLimitRepository {
+import com.berryselect.backend.benefits.domain.BenefitRuleLimit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface BenefitRuleLimitRepository extends JpaRepository<BenefitRuleLimit, Long> {
+
+    // 활성 룰의 한도 전체 (룰 인덱스 빌드용)
+    @Query("""
+      SELECT l
+        FROM BenefitRuleLimit l
+        JOIN FETCH l.rule r
+       WHERE r.isActive = true
+    """)
+    List<BenefitRuleLimit> findAllOfActiveRules();
 }
@@ -20,4 +20,35 @@ public interface BenefitRuleRepository extends JpaRepository<BenefitRule, Long>
        ORDER BY r.priority DESC, r.ruleId DESC
     """)
     List<BenefitRule> findActiveWithScopesByProductId(Long productId);
+
+    // 활성 룰 전체 (룰 인덱스 빌드용)
+    @Query("SELECT r FROM BenefitRule r WHERE r.isActive = true ORDER BY r.ruleId ASC")
+    List<BenefitRule> findAllActive();
+
+    /**
+     * 룰 테이블 변경 감지용 버전 문자열
+     * - 룰: 건수 / 활성 건수 / 최대 ID / 최종 수정시각 / 인덱스에 쓰는 컬럼 체크섬
+     * - 스코프·한도: updated_at이 없으므로 건수 + 행 내용 체크섬 (요일/시간/대상 ID, 한도 금액 변경도 감지)
+     * - NULL은 IFNULL로 자리를 지켜 컬럼 간 값이 밀려도 같은 문자열이 되지 않도록 함
+     */
+    @Query(value = """
+      SELECT CONCAT_WS(':',
+             COUNT(*),
+             COALESCE(SUM(r.is_active), 0),
+             COALESCE(MAX(r.rule_id), 0),
+             COALESCE(MAX(r.updated_at), ''),
+             COALESCE(SUM(CRC32(CONCAT_WS('|', r.rule_id, IFNULL(r.is_active, ''), IFNULL(r.source_ref_id, ''),
+                      r.value_type, IFNULL(r.value_rate, ''), IFNULL(r.value_amount, ''),
+                      IFNULL(r.min_amount, ''), IFNULL(r.max_benefit_amount, ''),
+                      IFNULL(r.priority, ''), IFNULL(r.description, '')))), 0),
+             (SELECT CONCAT(COUNT(*), '/', COALESCE(SUM(CRC32(CONCAT_WS('|', s.id, s.rule_id, s.scope_type,
+                      IFNULL(s.brand_id, ''), IFNULL(s.merchant_id, ''), IFNULL(s.category_id, ''),
+                      IFNULL(s.day_of_week, ''), IFNULL(s.start_minute, ''), IFNULL(s.end_minute, '')))), 0))
+                FROM benefit_rule_scopes s),
+             (SELECT CONCAT(COUNT(*), '/', COALESCE(SUM(CRC32(CONCAT_WS('|', l.id, l.rule_id, l.limit_type,
+                      IFNULL(l.limit_amount, ''), IFNULL(l.limit_count, '')))), 0))
+                FROM benefit_rule_limits l))
+        FROM benefit_rules r
+    """, nativeQuery = true)
+    String findRuleTableVersion();
 }
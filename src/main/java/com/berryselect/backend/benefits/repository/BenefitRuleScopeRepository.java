@@ -0,0 +1,19 @@
+package com.berryselect.backend.benefits.repository;
+
+import com.berryselect.backend.benefits.domain.BenefitRuleScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface BenefitRuleScopeRepository extends JpaRepository<BenefitRuleScope, Long> {
+
+    // 활성 룰의 스코프 전체 (룰 인덱스 빌드용)
+    @Query("""
+      SELECT s
+        FROM BenefitRuleScope s
+        JOIN FETCH s.rule r
+       WHERE r.isActive = true
+    """)
+    List<BenefitRuleScope> findAllOfActiveRules();
+}
@@ -2,10 +2,31 @@ package com.berryselect.backend.benefits.repository;
 
 import com.berryselect.backend.benefits.domain.UserBenefitCounter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface UserBenefitCounterRepository extends JpaRepository<UserBenefitCounter, Long> {
+public interface UserBenefitCounterRepository
+        extends JpaRepository<UserBenefitCounter, Long>, UserBenefitCounterRepositoryCustom {
 
     Optional<UserBenefitCounter> findByUserIdAndRuleRuleIdAndPeriodKey(Long userId, Long ruleId, String periodKey);
-}
\ No newline at end of file
+
+    /**
+     * 사용자 + 룰 목록 + 기간키 목록에 해당하는 카운터 일괄 조회
+     * - 추천 요청당 한 번만 읽어 스냅샷으로 사용
+     */
+    @Query("""
+      SELECT c
+        FROM UserBenefitCounter c
+       WHERE c.userId = :userId
+         AND c.rule.ruleId IN :ruleIds
+         AND c.periodKey IN :periodKeys
+    """)
+    List<UserBenefitCounter> findByUserIdAndRuleIdsAndPeriodKeys(
+            @Param("userId") Long userId,
+            @Param("ruleIds") Collection<Long> ruleIds,
+            @Param("periodKeys") Collection<String> periodKeys);
+}
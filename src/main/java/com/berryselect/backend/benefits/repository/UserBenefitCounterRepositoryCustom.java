@@ -0,0 +1,26 @@
+package com.berryselect.backend.benefits.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 한도 카운터 일괄 증가 (가변 행 수 네이티브 쿼리)
+ */
+public interface UserBenefitCounterRepositoryCustom {
+
+    /**
+     * 카운터 행이 없으면 0으로 생성 (다중 행 INSERT 1문장)
+     */
+    void ensureCounters(Long userId, List<CounterIncrement> increments, Instant now);
+
+    /**
+     * 한도 안에서만 사용량 증가 (다중 행 조건부 UPDATE 1문장)
+     * - 증가 후 사용액이 limitAmount, 사용 횟수가 limitCount 를 넘는 행은 갱신하지 않음
+     *
+     * @return 갱신된 행 수 (increments.size() 보다 작으면 한도 초과 행이 있음)
+     */
+    int incrementWithinLimits(Long userId, List<CounterIncrement> increments, Instant now);
+
+    /** (룰, 기간키) 단위 증가분 */
+    record CounterIncrement(Long ruleId, String periodKey, int amount, int limitAmount, int limitCount) {}
+}
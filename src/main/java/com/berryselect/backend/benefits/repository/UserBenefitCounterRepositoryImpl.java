@@ -0,0 +1,76 @@
+package com.berryselect.backend.benefits.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+public class UserBenefitCounterRepositoryImpl implements UserBenefitCounterRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public void ensureCounters(Long userId, List<CounterIncrement> increments, Instant now) {
+        if (increments.isEmpty()) return;
+
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO user_benefit_counters (user_id, rule_id, period_key, amount_used, count_used, updated_at)
+            VALUES\s""");
+        for (int i = 0; i < increments.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(:userId, :rule").append(i).append(", :period").append(i).append(", 0, 0, :now)");
+        }
+        // 이미 있으면 그대로 둠 (INSERT IGNORE 는 다른 오류까지 삼키므로 사용하지 않음)
+        sql.append(" ON DUPLICATE KEY UPDATE user_id = user_id");
+
+        Query query = em.createNativeQuery(sql.toString())
+                .setParameter("userId", userId)
+                .setParameter("now", now);
+        for (int i = 0; i < increments.size(); i++) {
+            query.setParameter("rule" + i, increments.get(i).ruleId());
+            query.setParameter("period" + i, increments.get(i).periodKey());
+        }
+        query.executeUpdate();
+    }
+
+    @Override
+    public int incrementWithinLimits(Long userId, List<CounterIncrement> increments, Instant now) {
+        if (increments.isEmpty()) return 0;
+
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < increments.size(); i++) {
+            if (i > 0) rows.append(" UNION ALL ");
+            rows.append("SELECT :rule").append(i).append(" AS rule_id, :period").append(i)
+                    .append(" AS period_key, :amount").append(i).append(" AS amount, :limit").append(i)
+                    .append(" AS limit_amount, :limitCount").append(i).append(" AS limit_count");
+        }
+
+        String sql = """
+            UPDATE user_benefit_counters c
+              JOIN (%s) d
+                ON c.rule_id = d.rule_id AND c.period_key = d.period_key
+               SET c.amount_used = COALESCE(c.amount_used, 0) + d.amount,
+                   c.count_used  = COALESCE(c.count_used, 0) + 1,
+                   c.updated_at  = :now
+             WHERE c.user_id = :userId
+               AND COALESCE(c.amount_used, 0) + d.amount <= d.limit_amount
+               AND COALESCE(c.count_used, 0) + 1 <= d.limit_count
+            """.formatted(rows);
+
+        Query query = em.createNativeQuery(sql)
+                .setParameter("userId", userId)
+                .setParameter("now", now);
+        for (int i = 0; i < increments.size(); i++) {
+            CounterIncrement inc = increments.get(i);
+            query.setParameter("rule" + i, inc.ruleId());
+            query.setParameter("period" + i, inc.periodKey());
+            query.setParameter("amount" + i, inc.amount());
+            query.setParameter("limit" + i, inc.limitAmount());
+            query.setParameter("limitCount" + i, inc.limitCount());
+        }
+        return query.executeUpdate();
+    }
+}
@@ -1,11 +1,10 @@
 package com.berryselect.backend.benefits.service;
 
-import com.berryselect.backend.benefits.domain.BenefitRule;
-import com.berryselect.backend.benefits.domain.BenefitRuleLimit;
-import com.berryselect.backend.benefits.domain.BenefitRuleScope;
 import com.berryselect.backend.benefits.domain.UserBenefitCounter;
-import com.berryselect.backend.benefits.repository.BenefitRuleRepository;
 import com.berryselect.backend.benefits.repository.UserBenefitCounterRepository;
+import com.berryselect.backend.benefits.service.BenefitRuleIndex.CompiledLimit;
+import com.berryselect.backend.benefits.service.BenefitRuleIndex.CompiledRule;
+import com.berryselect.backend.benefits.service.BenefitRuleIndex.LimitPeriod;
 import com.berryselect.backend.wallet.domain.UserAsset;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,7 +19,9 @@ import java.util.*;
 @RequiredArgsConstructor
 public class BenefitCalculationService {
 
-    private final BenefitRuleRepository benefitRuleRepository;
+    private static final DateTimeFormatter MONTHLY_KEY = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final BenefitRuleIndex benefitRuleIndex;
     private final UserBenefitCounterRepository userBenefitCounterRepository;
 
     /**
@@ -29,29 +30,29 @@ public class BenefitCalculationService {
     public Map<UserAsset, List<RuleSaving>> calculatePerAssetRuleSave(
             List<UserAsset> combo, int amount, Long userId,
             Long merchantId, Long categoryId, Long brandId) {
+        return calculatePerAssetRuleSave(combo, amount, merchantId, categoryId, brandId,
+                loadCounterSnapshot(userId, combo));
+    }
+
+    /**
+     * 자산별 절감액 + 룰 상세 반환 (미리 읽어 둔 카운터 스냅샷 기준)
+     * - 같은 요청의 여러 조합이 하나의 스냅샷(한도 사용량 + 요청 시각)을 공유
+     */
+    public Map<UserAsset, List<RuleSaving>> calculatePerAssetRuleSave(
+            List<UserAsset> combo, int amount,
+            Long merchantId, Long categoryId, Long brandId,
+            CounterSnapshot counters) {
         Map<UserAsset, List<RuleSaving>> saveMap = new HashMap<>();
 
         for (UserAsset ua : combo) {
             List<RuleSaving> ruleSavings = new ArrayList<>();
 
-            List<BenefitRule> rules = benefitRuleRepository.findActiveByProductId(ua.getProduct().getId());
-            for (BenefitRule rule : rules) {
-                if (!isRuleApplicable(rule, merchantId, categoryId, brandId)) continue;
-
-                int benefit = calcBaseBenefit(rule, amount);
-
-                // 1회 최대 혜택 제한
-                if (rule.getMaxBenefitAmount() != null && rule.getMaxBenefitAmount() > 0) {
-                    benefit = Math.min(benefit, rule.getMaxBenefitAmount());
-                }
-
-                // 남은 한도
-                int remaining = getRemainingLimit(rule, userId);
-                if (remaining <= 0) continue;
-                if (benefit > remaining) benefit = remaining;
-
+            List<CompiledRule> rules = benefitRuleIndex.findByProductId(ua.getProduct().getId());
+            for (int i = 0; i < rules.size(); i++) {
+                CompiledRule rule = rules.get(i);
+                int benefit = evaluate(rule, amount, merchantId, categoryId, brandId, counters);
                 if (benefit > 0) {
-                    ruleSavings.add(new RuleSaving(rule.getDescription(), benefit, rule.getRuleId()));
+                    ruleSavings.add(new RuleSaving(rule.description(), benefit, rule.ruleId()));
                 }
             }
             saveMap.put(ua, ruleSavings);
@@ -59,113 +60,186 @@ public class BenefitCalculationService {
         return saveMap;
     }
 
-    /** 총합 절감액 */
-    public int calculateTotalSave(List<UserAsset> combo, int amount, Long userId,
-                                  Long merchantId, Long categoryId, Long brandId) {
-        return calculatePerAssetRuleSave(combo, amount, userId, merchantId, categoryId, brandId)
-                .values().stream()
-                .flatMap(List::stream)
-                .mapToInt(RuleSaving::appliedValue)
-                .sum();
+    /**
+     * 자산 1개에서 가장 큰 절감을 주는 룰 (없으면 null)
+     * - 룰 단위 평가는 원시 타입만 사용하고, 결과 객체는 최종 1개만 생성
+     */
+    public RuleSaving bestRuleSave(UserAsset ua, int amount,
+                                   Long merchantId, Long categoryId, Long brandId,
+                                   CounterSnapshot counters) {
+        return bestRuleSave(ua.getProduct().getId(), amount, merchantId, categoryId, brandId, counters);
     }
 
-    /** RATE vs AMOUNT */
-    private int calcBaseBenefit(BenefitRule rule, int amount) {
-        // 최소 결제 금액 조건
-        if (rule.getMinAmount() != null && amount < rule.getMinAmount()) {
-            return 0;
+    /**
+     * 상품 기준 최대 절감 룰 (엔티티 접근 없음 - 요청 스레드 밖에서 호출 가능)
+     */
+    public RuleSaving bestRuleSave(Long productId, int amount,
+                                   Long merchantId, Long categoryId, Long brandId,
+                                   CounterSnapshot counters) {
+        List<CompiledRule> rules = benefitRuleIndex.findByProductId(productId);
+        CompiledRule best = null;
+        int bestValue = 0;
+        for (int i = 0; i < rules.size(); i++) {
+            CompiledRule rule = rules.get(i);
+            int benefit = evaluate(rule, amount, merchantId, categoryId, brandId, counters);
+            if (benefit > bestValue) {
+                best = rule;
+                bestValue = benefit;
+            }
         }
+        return best != null ? new RuleSaving(best.description(), bestValue, best.ruleId()) : null;
+    }
 
-        int benefit = 0;
-
-        if ("RATE".equals(rule.getValueType()) && rule.getValueRate() != null) {
-            // 두 가지 경우: (1) 일반 % 할인, (2) 천원당 할인
-            double rate = rule.getValueRate().doubleValue();
-
-            if (rate < 1.0) {
-                // ✅ 일반 퍼센트 할인 (예: 0.1 → 10%)
-                benefit = (int) Math.floor(amount * rate);
-            } else {
-                // ✅ 천원 단위 step 할인 (예: 1000원당 100원 → value_rate=100)
-                int step = 1000;
-                int stepCount = amount / step;
-                benefit = stepCount * (int) rate;
+    /**
+     * 자산들이 가진 한도 룰의 사용량을 한 번의 쿼리로 읽어 스냅샷 생성
+     */
+    public CounterSnapshot loadCounterSnapshot(Long userId, Collection<UserAsset> assets) {
+        // 기간키와 요일/시간 스코프 판정 시각을 요청당 한 번만 계산
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDate today = now.toLocalDate();
+        String dailyKey = dailyKey(today);
+        String monthlyKey = monthlyKey(today);
+        int dayBit = BenefitRuleIndex.dayBit(now.getDayOfWeek());
+        int minuteOfDay = now.getHour() * 60 + now.getMinute();
+
+        Set<Long> ruleIds = new HashSet<>();
+        for (UserAsset ua : assets) {
+            for (CompiledRule rule : benefitRuleIndex.findByProductId(ua.getProduct().getId())) {
+                if (!rule.limits().isEmpty()) ruleIds.add(rule.ruleId());
             }
-
-        } else if ("AMOUNT".equals(rule.getValueType()) && rule.getValueAmount() != null) {
-            // 정액 할인
-            benefit = rule.getValueAmount();
         }
-
-        // 1회 최대 할인 금액 적용
-        if (rule.getMaxBenefitAmount() != null && rule.getMaxBenefitAmount() > 0) {
-            benefit = Math.min(benefit, rule.getMaxBenefitAmount());
+        if (userId == null || ruleIds.isEmpty()) {
+            return new CounterSnapshot(dailyKey, monthlyKey, dayBit, minuteOfDay, Map.of());
         }
 
-        return Math.max(benefit, 0);
+        // ruleId → [일 사용액, 월 사용액, 일 사용 횟수, 월 사용 횟수]
+        Map<Long, int[]> usedByRule = new HashMap<>();
+        for (UserBenefitCounter c : userBenefitCounterRepository
+                .findByUserIdAndRuleIdsAndPeriodKeys(userId, ruleIds, List.of(dailyKey, monthlyKey))) {
+            int[] used = usedByRule.computeIfAbsent(c.getRule().getRuleId(), k -> new int[4]);
+            int amountUsed = c.getAmountUsed() != null ? c.getAmountUsed() : 0;
+            int countUsed = c.getCountUsed() != null ? c.getCountUsed() : 0;
+            if (dailyKey.equals(c.getPeriodKey())) {
+                used[CounterSnapshot.DAILY] = amountUsed;
+                used[CounterSnapshot.DAILY_COUNT] = countUsed;
+            }
+            if (monthlyKey.equals(c.getPeriodKey())) {
+                used[CounterSnapshot.MONTHLY] = amountUsed;
+                used[CounterSnapshot.MONTHLY_COUNT] = countUsed;
+            }
+        }
+        return new CounterSnapshot(dailyKey, monthlyKey, dayBit, minuteOfDay, Map.copyOf(usedByRule));
     }
 
-    /** 스코프 검사 */
-    private boolean isRuleApplicable(BenefitRule rule, Long merchantId, Long categoryId, Long brandId) {
-        List<BenefitRuleScope> scopes = rule.getScopes();
-        if (scopes == null || scopes.isEmpty()) return true;
-
-        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-        String today = now.getDayOfWeek().toString().substring(0, 3);
-        int minutes = now.getHour() * 60 + now.getMinute();
+    /**
+     * 스코프를 무시한 자산 1개의 절감 상한
+     * - 룰 값(최소 결제/1회 최대 반영)과 남은 한도만으로 계산하므로 실제 절감액 이상이 보장됨
+     * - 추천 탐색에서 가지치기용으로 사용
+     */
+    public int upperBoundSave(UserAsset ua, int amount, CounterSnapshot counters) {
+        int bound = 0;
+        List<CompiledRule> rules = benefitRuleIndex.findByProductId(ua.getProduct().getId());
+        for (int i = 0; i < rules.size(); i++) {
+            CompiledRule rule = rules.get(i);
+            int benefit = Math.min(rule.baseBenefit(amount), getRemainingLimit(rule, counters));
+            if (benefit > bound) bound = benefit;
+        }
+        return bound;
+    }
 
-        for (BenefitRuleScope s : scopes) {
-            switch (s.getScopeType()) {
-                case "DAY_OF_WEEK" -> {
-                    if (s.getDayOfWeek() != null && s.getDayOfWeek().contains(today)) return true;
-                }
-                case "TIME" -> {
-                    if (s.getStartMinute() != null && s.getEndMinute() != null &&
-                            minutes >= s.getStartMinute() && minutes <= s.getEndMinute()) return true;
-                }
-                case "CATEGORY" -> {
-                    if (Objects.equals(categoryId, s.getCategoryId())) return true;
-                }
-                case "BRAND" -> {
-                    if (Objects.equals(brandId, s.getBrandId())) return true;
-                }
-                case "MERCHANT" -> {
-                    if (Objects.equals(merchantId, s.getMerchantId())) return true;
-                }
+    /** 총합 절감액 */
+    public int calculateTotalSave(List<UserAsset> combo, int amount, Long userId,
+                                  Long merchantId, Long categoryId, Long brandId) {
+        return calculatePerAssetRuleSave(combo, amount, userId, merchantId, categoryId, brandId)
+                .values().stream()
+                .flatMap(List::stream)
+                .mapToInt(RuleSaving::appliedValue)
+                .sum();
+    }
 
-            }
+    /** 룰 1개의 절감액 (스코프 불일치/한도 소진 시 0) */
+    private int evaluate(CompiledRule rule, int amount,
+                         Long merchantId, Long categoryId, Long brandId,
+                         CounterSnapshot counters) {
+        if (!rule.scope().matches(counters.dayBit(), counters.minuteOfDay(), merchantId, categoryId, brandId)) {
+            return 0;
         }
-        return false;
+        int benefit = rule.baseBenefit(amount);
+        if (benefit <= 0) return 0;
+        return Math.min(benefit, getRemainingLimit(rule, counters));
     }
 
     /** 남은 한도 계산 */
-    private int getRemainingLimit(BenefitRule rule, Long userId) {
-        if (rule.getLimits() == null || rule.getLimits().isEmpty()) {
+    private int getRemainingLimit(CompiledRule rule, CounterSnapshot counters) {
+        List<CompiledLimit> limits = rule.limits();
+        if (limits.isEmpty()) {
             return Integer.MAX_VALUE;
         }
 
+        int[] used = counters.amountUsedByRule().get(rule.ruleId());
         int remaining = Integer.MAX_VALUE;
-        for (BenefitRuleLimit l : rule.getLimits()) {
-            String key = makePeriodKey(l.getLimitType());
-            var counterOpt = userBenefitCounterRepository.findByUserIdAndRuleRuleIdAndPeriodKey(userId, rule.getRuleId(), key);
-
-            int used = counterOpt.map(UserBenefitCounter::getAmountUsed).orElse(0);
-            int limit = l.getLimitAmount() != null ? l.getLimitAmount() : Integer.MAX_VALUE;
-            remaining = Math.min(remaining, limit - used);
+        for (int i = 0; i < limits.size(); i++) {
+            CompiledLimit l = limits.get(i);
+            // 사용 횟수 한도를 다 쓰면 금액 한도가 남아도 적용 불가
+            if (countUsed(used, l.period()) >= l.limitCount()) return 0;
+            remaining = Math.min(remaining, l.limitAmount() - amountUsed(used, l.period()));
         }
         return Math.max(remaining, 0);
     }
 
-    private String makePeriodKey(String type) {
-        LocalDate now = LocalDate.now(ZoneOffset.UTC);
-        return switch (type) {
-            case "MONTHLY" -> now.format(DateTimeFormatter.ofPattern("yyyy-MM"));
-            case "DAILY" -> now.toString();
-            default -> now.toString();
+    // 1회 한도(PER_TX)는 누적 사용량과 무관
+    private static int amountUsed(int[] used, LimitPeriod period) {
+        if (used == null) return 0;
+        return switch (period) {
+            case DAILY -> used[CounterSnapshot.DAILY];
+            case MONTHLY -> used[CounterSnapshot.MONTHLY];
+            case PER_TX -> 0;
         };
     }
 
+    // 1회 한도(PER_TX)는 이번 결제 1회만 계산
+    private static int countUsed(int[] used, LimitPeriod period) {
+        if (used == null) return 0;
+        return switch (period) {
+            case DAILY -> used[CounterSnapshot.DAILY_COUNT];
+            case MONTHLY -> used[CounterSnapshot.MONTHLY_COUNT];
+            case PER_TX -> 0;
+        };
+    }
+
+    /** 한도 카운터 일 단위 기간키 (UTC) */
+    public static String dailyKey(LocalDate date) {
+        return date.toString();
+    }
+
+    /** 한도 카운터 월 단위 기간키 (UTC) */
+    public static String monthlyKey(LocalDate date) {
+        return date.format(MONTHLY_KEY);
+    }
+
+    /**
+     * 요청 단위 한도 사용량 스냅샷
+     * - ruleId → [일 사용액, 월 사용액, 일 사용 횟수, 월 사용 횟수]
+     * - 기간키와 요일/시간 스코프 판정 시각(dayBit, minuteOfDay)은 스냅샷 생성 시각 기준으로 고정
+     */
+    public record CounterSnapshot(String dailyKey, String monthlyKey,
+                                  int dayBit, int minuteOfDay,
+                                  Map<Long, int[]> amountUsedByRule) {
+
+        static final int DAILY = 0;
+        static final int MONTHLY = 1;
+        static final int DAILY_COUNT = 2;
+        static final int MONTHLY_COUNT = 3;
 
+        public int amountUsed(Long ruleId, String limitType) {
+            return BenefitCalculationService.amountUsed(amountUsedByRule.get(ruleId), LimitPeriod.of(limitType));
+        }
+
+        // MONTHLY 외(DAILY/PER_TX 등)는 일 단위 키
+        public String periodKey(String limitType) {
+            return "MONTHLY".equals(limitType) ? monthlyKey : dailyKey;
+        }
+    }
 
     /**
      * 절감액 + 설명을 담는 DTO
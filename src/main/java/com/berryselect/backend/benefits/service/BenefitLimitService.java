@@ -0,0 +1,94 @@
+package com.berryselect.backend.benefits.service;
+
+import com.berryselect.backend.benefits.repository.UserBenefitCounterRepository;
+import com.berryselect.backend.benefits.repository.UserBenefitCounterRepositoryCustom.CounterIncrement;
+import com.berryselect.backend.benefits.service.BenefitRuleIndex.CompiledLimit;
+import com.berryselect.backend.benefits.service.BenefitRuleIndex.CompiledRule;
+import com.berryselect.backend.common.exception.ApiException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 결제 시 혜택 한도 소진 (user_benefit_counters 증가)
+ * - (사용자, 룰, 기간키) 단위로 합산해 조건부 UPDATE 한 문장으로 반영
+ * - 한도를 넘는 행이 하나라도 있으면 예외 → 결제 트랜잭션 전체 롤백
+ * - 비관적 잠금 없이 DB 행 잠금만으로 동시 결제 시에도 한도 초과 방지
+ *   (정렬된 순서의 행 생성 upsert가 대상 행을 같은 순서로 잠그고, 조건부 UPDATE가 한도를 검사)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BenefitLimitService {
+
+    private final BenefitRuleIndex benefitRuleIndex;
+    private final UserBenefitCounterRepository userBenefitCounterRepository;
+
+    /**
+     * 적용된 혜택의 한도 사용량 반영 (호출한 트랜잭션에 참여)
+     *
+     * @param savedByRule ruleId → 이번 결제에서 적용된 절감액
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void consume(Long userId, Map<Long, Integer> savedByRule) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        String dailyKey = BenefitCalculationService.dailyKey(today);
+        String monthlyKey = BenefitCalculationService.monthlyKey(today);
+
+        // (ruleId, periodKey) → 증가분 (같은 기간 한도가 여럿이면 금액/횟수 각각 가장 작은 한도 기준)
+        Map<String, CounterIncrement> increments = new HashMap<>();
+        for (Map.Entry<Long, Integer> e : savedByRule.entrySet()) {
+            int amount = e.getValue() != null ? e.getValue() : 0;
+            if (amount <= 0) continue;
+
+            CompiledRule rule = benefitRuleIndex.findByRuleId(e.getKey());
+            if (rule == null || rule.limits().isEmpty()) continue;
+
+            for (CompiledLimit limit : rule.limits()) {
+                String periodKey = switch (limit.period()) {
+                    case DAILY -> dailyKey;
+                    case MONTHLY -> monthlyKey;
+                    case PER_TX -> {
+                        if (amount > limit.limitAmount() || limit.limitCount() < 1) throw limitExceeded(rule.ruleId());
+                        yield null;
+                    }
+                };
+                if (periodKey == null) continue;
+
+                increments.merge(rule.ruleId() + "|" + periodKey,
+                        new CounterIncrement(rule.ruleId(), periodKey, amount, limit.limitAmount(), limit.limitCount()),
+                        (a, b) -> new CounterIncrement(a.ruleId(), a.periodKey(), a.amount(),
+                                Math.min(a.limitAmount(), b.limitAmount()),
+                                Math.min(a.limitCount(), b.limitCount())));
+            }
+        }
+        if (increments.isEmpty()) return;
+
+        // 동시 결제 간 행 잠금 순서를 (ruleId, periodKey)로 고정
+        // - 행 생성 INSERT ... ON DUPLICATE KEY UPDATE가 이 순서로 고유키 행을 X 잠금 → 이후 UPDATE는 이미 잡은 잠금 안에서 실행
+        List<CounterIncrement> rows = new ArrayList<>(increments.values());
+        rows.sort(Comparator.comparing(CounterIncrement::ruleId).thenComparing(CounterIncrement::periodKey));
+        Instant now = Instant.now();
+        userBenefitCounterRepository.ensureCounters(userId, rows, now);
+        int updated = userBenefitCounterRepository.incrementWithinLimits(userId, rows, now);
+        if (updated < rows.size()) {
+            log.info("혜택 한도 초과로 결제 거절 - userId: {}, requested: {}, applied: {}",
+                    userId, rows.size(), updated);
+            throw limitExceeded(null);
+        }
+    }
+
+    private ApiException limitExceeded(Long ruleId) {
+        return new ApiException("BENEFIT_LIMIT_EXCEEDED",
+                ruleId != null
+                        ? "혜택 1회 한도를 초과했습니다. (ruleId: " + ruleId + ")"
+                        : "혜택 한도를 초과했습니다. 추천을 다시 받아주세요.");
+    }
+}
@@ -0,0 +1,296 @@
+package com.berryselect.backend.benefits.service;
+
+import com.berryselect.backend.benefits.domain.BenefitRule;
+import com.berryselect.backend.benefits.domain.BenefitRuleLimit;
+import com.berryselect.backend.benefits.domain.BenefitRuleScope;
+import com.berryselect.backend.benefits.repository.BenefitRuleLimitRepository;
+import com.berryselect.backend.benefits.repository.BenefitRuleRepository;
+import com.berryselect.backend.benefits.repository.BenefitRuleScopeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.util.*;
+
+/**
+ * productId 기준으로 컴파일된 활성 혜택 룰 인덱스
+ * - 스코프/한도를 미리 파싱해 두어 요청 시점에는 DB를 조회하지 않음
+ * - benefit_rules 변경이 감지되면 새 스냅샷을 만들어 통째로 교체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BenefitRuleIndex {
+
+    private final BenefitRuleRepository benefitRuleRepository;
+    private final BenefitRuleScopeRepository benefitRuleScopeRepository;
+    private final BenefitRuleLimitRepository benefitRuleLimitRepository;
+
+    private volatile Snapshot snapshot;
+
+    /** 상품(카드/멤버십/기프티콘)의 활성 룰 목록 */
+    public List<CompiledRule> findByProductId(Long productId) {
+        return current().rulesByProductId().getOrDefault(productId, List.of());
+    }
+
+    /** ruleId 로 활성 룰 조회 (없거나 비활성이면 null) */
+    public CompiledRule findByRuleId(Long ruleId) {
+        return current().rulesById().get(ruleId);
+    }
+
+    /** 현재 스냅샷의 룰 테이블 버전 (결과 캐시 키 용도) */
+    public String version() {
+        return current().version();
+    }
+
+    /** 룰 테이블 버전이 바뀌었을 때만 재빌드 */
+    @Scheduled(fixedDelayString = "${benefit.rule-index.refresh-interval-ms:60000}",
+            initialDelayString = "${benefit.rule-index.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        try {
+            String version = benefitRuleRepository.findRuleTableVersion();
+            Snapshot loaded = snapshot;
+            if (loaded != null && Objects.equals(loaded.version(), version)) return;
+            rebuild();
+        } catch (Exception e) {
+            log.error("혜택 룰 인덱스 갱신 실패 - 기존 스냅샷 유지", e);
+        }
+    }
+
+    /** 전체 재빌드 후 원자적으로 교체 */
+    public synchronized void rebuild() {
+        String version = benefitRuleRepository.findRuleTableVersion();
+        List<BenefitRule> rules = benefitRuleRepository.findAllActive();
+
+        Map<Long, List<BenefitRuleScope>> scopesByRuleId = new HashMap<>();
+        for (BenefitRuleScope s : benefitRuleScopeRepository.findAllOfActiveRules()) {
+            scopesByRuleId.computeIfAbsent(s.getRule().getRuleId(), k -> new ArrayList<>()).add(s);
+        }
+
+        Map<Long, List<BenefitRuleLimit>> limitsByRuleId = new HashMap<>();
+        for (BenefitRuleLimit l : benefitRuleLimitRepository.findAllOfActiveRules()) {
+            limitsByRuleId.computeIfAbsent(l.getRule().getRuleId(), k -> new ArrayList<>()).add(l);
+        }
+
+        Map<Long, List<CompiledRule>> byProduct = new HashMap<>();
+        Map<Long, CompiledRule> byId = new HashMap<>();
+        for (BenefitRule r : rules) {
+            if (r.getSourceRefId() == null) continue;
+            CompiledRule compiled = compile(r,
+                    scopesByRuleId.getOrDefault(r.getRuleId(), List.of()),
+                    limitsByRuleId.getOrDefault(r.getRuleId(), List.of()));
+            byProduct.computeIfAbsent(r.getSourceRefId(), k -> new ArrayList<>()).add(compiled);
+            byId.put(r.getRuleId(), compiled);
+        }
+
+        Map<Long, List<CompiledRule>> frozen = new HashMap<>();
+        byProduct.forEach((productId, list) -> frozen.put(productId, List.copyOf(list)));
+
+        snapshot = new Snapshot(version, Map.copyOf(frozen), Map.copyOf(byId));
+        log.info("혜택 룰 인덱스 빌드 완료 - rules: {}, products: {}, version: {}",
+                rules.size(), frozen.size(), version);
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded == null) {
+            synchronized (this) {
+                if (snapshot == null) rebuild();
+                loaded = snapshot;
+            }
+        }
+        return loaded;
+    }
+
+    // ===== 컴파일 =====
+
+    private CompiledRule compile(BenefitRule r, List<BenefitRuleScope> scopes, List<BenefitRuleLimit> limits) {
+        ValueKind kind = ValueKind.NONE;
+        int value = 0;
+        if ("RATE".equals(r.getValueType()) && r.getValueRate() != null) {
+            BigDecimal rate = r.getValueRate();
+            if (rate.compareTo(BigDecimal.ONE) < 0) {
+                // 일반 퍼센트 할인 (0.1 → 1000bp)
+                kind = ValueKind.PERCENT;
+                value = toBasisPoints(r.getRuleId(), rate);
+            } else {
+                // 천원당 할인 (value_rate=100 → 1000원당 100원)
+                kind = ValueKind.PER_THOUSAND;
+                value = rate.intValue();
+            }
+        } else if ("AMOUNT".equals(r.getValueType()) && r.getValueAmount() != null) {
+            kind = ValueKind.FIXED;
+            value = r.getValueAmount();
+        }
+
+        return new CompiledRule(
+                r.getRuleId(),
+                r.getDescription(),
+                kind,
+                value,
+                r.getMinAmount() != null ? r.getMinAmount() : 0,
+                r.getMaxBenefitAmount() != null && r.getMaxBenefitAmount() > 0
+                        ? r.getMaxBenefitAmount() : Integer.MAX_VALUE,
+                compileScope(scopes),
+                limits.stream()
+                        .map(l -> new CompiledLimit(
+                                LimitPeriod.of(l.getLimitType()),
+                                l.getLimitAmount() != null ? l.getLimitAmount() : Integer.MAX_VALUE,
+                                l.getLimitCount() != null ? l.getLimitCount() : Integer.MAX_VALUE))
+                        .toList()
+        );
+    }
+
+    // 0.0x 단위 비율 → 정수 basis point (1bp 미만 자리는 버림)
+    private int toBasisPoints(Long ruleId, BigDecimal rate) {
+        BigDecimal bp = rate.movePointRight(4);
+        if (bp.stripTrailingZeros().scale() > 0) {
+            log.warn("혜택 룰 비율이 1bp 단위가 아니어서 버림 처리 - ruleId: {}, rate: {}", ruleId, rate);
+        }
+        return bp.setScale(0, RoundingMode.DOWN).intValue();
+    }
+
+    private CompiledScope compileScope(List<BenefitRuleScope> scopes) {
+        if (scopes.isEmpty()) return CompiledScope.UNRESTRICTED;
+
+        int dayMask = 0;
+        List<int[]> ranges = new ArrayList<>();
+        // Objects.equals 비교(null 포함)를 그대로 유지하기 위해 null 허용 Set 사용
+        Set<Long> categoryIds = new HashSet<>();
+        Set<Long> brandIds = new HashSet<>();
+        Set<Long> merchantIds = new HashSet<>();
+
+        for (BenefitRuleScope s : scopes) {
+            switch (s.getScopeType()) {
+                case "DAY_OF_WEEK" -> dayMask |= parseDayOfWeekMask(s.getDayOfWeek());
+                case "TIME" -> {
+                    if (s.getStartMinute() != null && s.getEndMinute() != null) {
+                        ranges.add(new int[]{s.getStartMinute(), s.getEndMinute()});
+                    }
+                }
+                case "CATEGORY" -> categoryIds.add(s.getCategoryId());
+                case "BRAND" -> brandIds.add(s.getBrandId());
+                case "MERCHANT" -> merchantIds.add(s.getMerchantId());
+                default -> { }
+            }
+        }
+
+        int[] starts = new int[ranges.size()];
+        int[] ends = new int[ranges.size()];
+        for (int i = 0; i < ranges.size(); i++) {
+            starts[i] = ranges.get(i)[0];
+            ends[i] = ranges.get(i)[1];
+        }
+
+        return new CompiledScope(false, dayMask, starts, ends,
+                Collections.unmodifiableSet(categoryIds),
+                Collections.unmodifiableSet(brandIds),
+                Collections.unmodifiableSet(merchantIds));
+    }
+
+    // "SAT,SUN" → 요일 비트마스크 (MONDAY = bit 0)
+    static int parseDayOfWeekMask(String days) {
+        if (days == null || days.isBlank()) return 0;
+        int mask = 0;
+        for (String token : days.split(",")) {
+            String t = token.trim().toUpperCase(Locale.ROOT);
+            if (t.length() < 3) continue;
+            for (DayOfWeek d : DayOfWeek.values()) {
+                if (d.name().startsWith(t.substring(0, 3))) {
+                    mask |= dayBit(d);
+                    break;
+                }
+            }
+        }
+        return mask;
+    }
+
+    public static int dayBit(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
+    }
+
+    // ===== 스냅샷 타입 =====
+
+    private record Snapshot(String version,
+                            Map<Long, List<CompiledRule>> rulesByProductId,
+                            Map<Long, CompiledRule> rulesById) {}
+
+    /** 룰 값 종류 (RATE 는 비율/천원당으로 미리 구분) */
+    public enum ValueKind { NONE, PERCENT, PER_THOUSAND, FIXED }
+
+    /**
+     * 요청 시점 평가에 필요한 필드만 담은 불변 룰
+     * - value: PERCENT 는 basis point, PER_THOUSAND 는 1000원당 금액, FIXED 는 정액
+     * - minAmount 없으면 0, maxBenefitAmount 없으면 Integer.MAX_VALUE
+     */
+    public record CompiledRule(
+            Long ruleId,
+            String description,
+            ValueKind kind,
+            int value,
+            int minAmount,
+            int maxBenefitAmount,
+            CompiledScope scope,
+            List<CompiledLimit> limits) {
+
+        /** 스코프/한도를 제외한 기본 절감액 (1회 최대 반영) */
+        public int baseBenefit(int amount) {
+            if (amount < minAmount) return 0;
+            long benefit = switch (kind) {
+                case PERCENT -> (long) amount * value / 10_000;
+                case PER_THOUSAND -> (long) (amount / 1000) * value;
+                case FIXED -> value;
+                case NONE -> 0;
+            };
+            if (benefit > maxBenefitAmount) benefit = maxBenefitAmount;
+            return benefit > 0 ? (int) benefit : 0;
+        }
+    }
+
+    /** 한도 기간 (알 수 없는 값은 일 단위로 취급) */
+    public enum LimitPeriod {
+        DAILY, MONTHLY, PER_TX;
+
+        static LimitPeriod of(String limitType) {
+            if ("MONTHLY".equals(limitType)) return MONTHLY;
+            if ("PER_TX".equals(limitType)) return PER_TX;
+            return DAILY;
+        }
+    }
+
+    /** 기간별 한도 (limitAmount/limitCount 가 없으면 Integer.MAX_VALUE) */
+    public record CompiledLimit(LimitPeriod period, int limitAmount, int limitCount) {}
+
+    /**
+     * 미리 파싱된 스코프 (하나라도 만족하면 적용)
+     * - 요일: 비트마스크, 시간: 분 단위 [start, end] 구간
+     */
+    public record CompiledScope(
+            boolean unrestricted,
+            int dayOfWeekMask,
+            int[] startMinutes,
+            int[] endMinutes,
+            Set<Long> categoryIds,
+            Set<Long> brandIds,
+            Set<Long> merchantIds) {
+
+        static final CompiledScope UNRESTRICTED =
+                new CompiledScope(true, 0, new int[0], new int[0], Set.of(), Set.of(), Set.of());
+
+        /** dayBit: {@link #dayBit(DayOfWeek)} 로 미리 계산한 요청 시점 요일 비트 */
+        public boolean matches(int dayBit, int minuteOfDay, Long merchantId, Long categoryId, Long brandId) {
+            if (unrestricted) return true;
+            if ((dayOfWeekMask & dayBit) != 0) return true;
+            for (int i = 0; i < startMinutes.length; i++) {
+                if (minuteOfDay >= startMinutes[i] && minuteOfDay <= endMinutes[i]) return true;
+            }
+            return (!categoryIds.isEmpty() && categoryIds.contains(categoryId))
+                    || (!brandIds.isEmpty() && brandIds.contains(brandId))
+                    || (!merchantIds.isEmpty() && merchantIds.contains(merchantId));
+        }
+    }
+}
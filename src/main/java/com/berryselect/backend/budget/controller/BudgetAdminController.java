@@ -0,0 +1,53 @@
+package com.berryselect.backend.budget.controller;
+
+import com.berryselect.backend.budget.service.SummaryAggregationService;
+import com.berryselect.backend.common.dto.ApiResponse;
+import com.berryselect.backend.security.dto.AuthUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+
+@Slf4j
+@RestController
+@RequestMapping("/admin/budget")
+@RequiredArgsConstructor
+public class BudgetAdminController {
+
+    private final SummaryAggregationService summaryAggregationService;
+
+    // 사용자 월별 카테고리 요약 재계산 (아웃박스 이벤트 replay, 요약 누락/불일치 복구용)
+    // - ROLE_ADMIN만 호출 가능 (SecurityConfig), 아웃박스로 복구할 수 없는 월은 400 INVALID_STATE
+    @PostMapping("/summaries/{userId}/{yearMonth}/rebuild")
+    public ResponseEntity<ApiResponse<String>> rebuildMonthlySummary(
+            @PathVariable Long userId,
+            @PathVariable String yearMonth,
+            @AuthenticationPrincipal AuthUser authUser) {
+
+        if (authUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("인증이 필요합니다."));
+        }
+
+        try {
+            YearMonth.parse(yearMonth);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("yearMonth 형식이 올바르지 않습니다. (yyyy-MM)"));
+        }
+
+        log.info("월별 요약 재계산 요청 - adminId: {}, userId: {}, yearMonth: {}",
+                authUser.getId(), userId, yearMonth);
+        summaryAggregationService.rebuildMonth(userId, yearMonth);
+
+        return ResponseEntity.ok(ApiResponse.success("월별 요약 재계산 완료"));
+    }
+}
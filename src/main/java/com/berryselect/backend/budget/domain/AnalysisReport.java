@@ -34,7 +34,21 @@ public class AnalysisReport {
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // AI 분석을 만들 때 기준이 된 월별 리포트 스냅샷 version (다르면 그 뒤로 데이터가 바뀐 것 → 재생성)
+    @Column(name = "source_version")
+    private Long sourceVersion;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(3)")
     private LocalDateTime createdAt;
+
+    public boolean isBuiltFrom(long version) {
+        return sourceVersion != null && sourceVersion == version;
+    }
+
+    // 재생성한 분석으로 교체
+    public void replaceContent(String content, long sourceVersion) {
+        this.content = content;
+        this.sourceVersion = sourceVersion;
+    }
 }
@@ -7,7 +7,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "monthly_category_summaries")
+@Table(name = "monthly_category_summaries",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_monthly_category_summary",
+                columnNames = {"user_id", "`year_month`", "category_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,54 @@
+package com.berryselect.backend.budget.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 상세 리포트 스냅샷 (사용자, 년월 단위 1행)
+ * - content: MonthlyReportDetailResponse JSON (AI 요약 제외 - analysis_reports에서 별도 조회)
+ * - version: 해당 월 데이터가 바뀔 때마다 증가 (거래 발생, 요약 반영)
+ * - builtVersion: content를 계산할 때 읽었던 version
+ * - version == builtVersion 이면 최신 → 재계산 없이 그대로 응답 (마감된 달은 항상 이 상태)
+ */
+@Entity
+@Table(name = "monthly_report_snapshots",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_monthly_report_snapshot",
+                columnNames = {"user_id", "`year_month`"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyReportSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "`year_month`", nullable = false, length = 7)
+    private String yearMonth;
+
+    @Column(name = "content", columnDefinition = "JSON")
+    private String content;
+
+    @Column(name = "version", nullable = false)
+    @Builder.Default
+    private Long version = 0L;
+
+    @Column(name = "built_version", nullable = false)
+    @Builder.Default
+    private Long builtVersion = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isFresh() {
+        return content != null && version.equals(builtVersion);
+    }
+}
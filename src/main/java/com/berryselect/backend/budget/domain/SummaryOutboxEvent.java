@@ -0,0 +1,61 @@
+package com.berryselect.backend.budget.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 카테고리 요약 반영 대기 이벤트 (트랜잭션 아웃박스)
+ * - 거래 저장과 같은 트랜잭션에서 기록되고, 집계 워커가 모아서 요약에 반영
+ * - eventKey: 멱등 키 (예: "tx:123") - 같은 거래가 두 번 반영되지 않도록 유니크
+ * - 반영 후에도 삭제하지 않으므로 요약 재계산(replay)의 원천 데이터로 사용
+ */
+@Entity
+@Table(name = "summary_outbox_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_summary_outbox_event_key", columnNames = "event_key"),
+        indexes = {
+                @Index(name = "idx_summary_outbox_pending", columnList = "processed_at, id"),
+                @Index(name = "idx_summary_outbox_user_month", columnList = "user_id, `year_month`")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SummaryOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_key", nullable = false, length = 64)
+    private String eventKey;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "`year_month`", nullable = false, length = 7)
+    private String yearMonth;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "amount_spent", nullable = false)
+    private Long amountSpent;
+
+    @Column(name = "amount_saved", nullable = false)
+    private Long amountSaved;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "DATETIME(3)")
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at", columnDefinition = "DATETIME(3)")
+    private LocalDateTime processedAt;
+
+    public static String transactionKey(Long txId) {
+        return "tx:" + txId;
+    }
+}
@@ -14,7 +14,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class MonthlyReportDetailResponse {
     private String yearMonth; // 조회 년월
     private Long totalSpent; // 총 지출 금액
@@ -23,8 +23,13 @@ public class MonthlyReportDetailResponse {
     @Builder.Default
     private List<CategorySpendingResponse> categorySpending = List.of(); // 카레고리별 지출 차트 데이터
     private RecommendationUsageResponse recommendationUsage; // 추천 시스템 사용률 통계
-    private String aiSummary; // AI 분석 리포트 내용
+    private String aiSummary; // AI 분석 리포트 내용 (생성 중이면 null)
+    private AiSummaryStatus aiSummaryStatus; // AI 분석 상태 (READY: 최신, REFRESHING: 이전 분석 + 재생성 중, PENDING: 생성 중 - 잠시 후 재조회)
     private Double savingRate; // 절약률
     private Long spentChangeFromLastMonth; // 전월 대비 지출 변화량 -> 시간 되면 확장
     private Long savedChangeFromLastMonth; // 전월 대비 절약 변화량 -> 시간 되면 확장
+
+    public enum AiSummaryStatus {
+        READY, REFRESHING, PENDING
+    }
 }
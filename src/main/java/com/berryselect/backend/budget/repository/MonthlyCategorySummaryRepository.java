@@ -2,10 +2,12 @@ package com.berryselect.backend.budget.repository;
 
 import com.berryselect.backend.budget.domain.MonthlyCategorySummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +20,21 @@ public interface MonthlyCategorySummaryRepository extends JpaRepository<MonthlyC
      */
     List<MonthlyCategorySummary> findByUserIdAndYearMonthOrderByAmountSpentDesc(Long userId, String yearMonth);
 
+    /**
+     * 사용자 월별 카테고리 요약 + 카테고리명 (지출액 내림차순)
+     * - 리포트 화면용: 요약 행마다 카테고리를 따로 조회하지 않도록 조인해서 함께 반환
+     * - 각 행: [MonthlyCategorySummary, 카테고리명(없으면 null)]
+     */
+    @Query("""
+      SELECT s, c.name
+        FROM MonthlyCategorySummary s
+        LEFT JOIN Category c ON c.id = s.categoryId
+       WHERE s.userId = :userId AND s.yearMonth = :yearMonth
+       ORDER BY s.amountSpent DESC
+    """)
+    List<Object[]> findWithCategoryNameByUserIdAndYearMonth(@Param("userId") Long userId,
+                                                            @Param("yearMonth") String yearMonth);
+
     /**
      * 특정 사용자의 특정 월, 특정 카테고리 요약 조회
      * - 거래 생성 시 기존 요약 데이터 조회/업데이트용
@@ -25,4 +42,62 @@ public interface MonthlyCategorySummaryRepository extends JpaRepository<MonthlyC
     Optional<MonthlyCategorySummary> findByUserIdAndYearMonthAndCategoryId(
             Long userId, String yearMonth, Long categoryId);
 
+    /**
+     * 월별 카테고리 요약 누적 (없으면 생성)
+     * - (user_id, year_month, category_id) 유니크 키 기준 단일 문장 upsert
+     * - 증분은 DB에서 더하므로 동시 결제에도 누락 없음
+     * - 반환: 영향 행 수 (MySQL 기준 신규 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = """
+      INSERT INTO monthly_category_summaries
+             (user_id, `year_month`, category_id, amount_spent, amount_saved, tx_count, updated_at)
+      VALUES (:userId, :yearMonth, :categoryId, :spent, :saved, :txCount, :now)
+      ON DUPLICATE KEY UPDATE
+             amount_spent = COALESCE(amount_spent, 0) + :spent,
+             amount_saved = COALESCE(amount_saved, 0) + :saved,
+             tx_count     = COALESCE(tx_count, 0) + :txCount,
+             updated_at   = :now
+    """, nativeQuery = true)
+    int upsertAdd(@Param("userId") Long userId,
+                  @Param("yearMonth") String yearMonth,
+                  @Param("categoryId") Long categoryId,
+                  @Param("spent") long spent,
+                  @Param("saved") long saved,
+                  @Param("txCount") int txCount,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자 월 요약에 반영된 거래 건수 합계 (요약이 없으면 0)
+     */
+    @Query("""
+      SELECT COALESCE(SUM(s.txCount), 0)
+        FROM MonthlyCategorySummary s
+       WHERE s.userId = :userId AND s.yearMonth = :yearMonth
+    """)
+    long sumTxCount(@Param("userId") Long userId, @Param("yearMonth") String yearMonth);
+
+    /**
+     * 사용자 월 요약 삭제 (아웃박스 기반 재계산 전 단계)
+     */
+    @Modifying
+    @Query("DELETE FROM MonthlyCategorySummary s WHERE s.userId = :userId AND s.yearMonth = :yearMonth")
+    int deleteByUserIdAndYearMonth(@Param("userId") Long userId, @Param("yearMonth") String yearMonth);
+
+    /**
+     * 아웃박스 이벤트 전체로 사용자 월 요약 재생성
+     */
+    @Modifying
+    @Query(value = """
+      INSERT INTO monthly_category_summaries
+             (user_id, `year_month`, category_id, amount_spent, amount_saved, tx_count, updated_at)
+      SELECT e.user_id, e.`year_month`, e.category_id,
+             SUM(e.amount_spent), SUM(e.amount_saved), COUNT(*), :now
+        FROM summary_outbox_events e
+       WHERE e.user_id = :userId AND e.`year_month` = :yearMonth
+       GROUP BY e.user_id, e.`year_month`, e.category_id
+    """, nativeQuery = true)
+    int rebuildFromOutbox(@Param("userId") Long userId,
+                          @Param("yearMonth") String yearMonth,
+                          @Param("now") LocalDateTime now);
 }
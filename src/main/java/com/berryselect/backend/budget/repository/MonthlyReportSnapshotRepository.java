@@ -0,0 +1,57 @@
+package com.berryselect.backend.budget.repository;
+
+import com.berryselect.backend.budget.domain.MonthlyReportSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface MonthlyReportSnapshotRepository extends JpaRepository<MonthlyReportSnapshot, Long> {
+
+    Optional<MonthlyReportSnapshot> findByUserIdAndYearMonth(Long userId, String yearMonth);
+
+    /**
+     * 사용자 월 스냅샷 무효화 (행이 없으면 무효 상태로 생성)
+     * - version만 올리므로 다음 조회 시 재계산됨
+     * - 스냅샷 계산 도중 무효화되어도 계산 시작 시점 version으로 저장되므로 최신으로 오인되지 않음
+     */
+    @Modifying
+    @Query(value = """
+      INSERT INTO monthly_report_snapshots
+             (user_id, `year_month`, content, version, built_version, updated_at)
+      VALUES (:userId, :yearMonth, NULL, 1, 0, :now)
+      ON DUPLICATE KEY UPDATE
+             version    = version + 1,
+             updated_at = :now
+    """, nativeQuery = true)
+    int markStale(@Param("userId") Long userId,
+                  @Param("yearMonth") String yearMonth,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 계산한 스냅샷 저장
+     * - builtVersion: 계산 전에 읽은 version
+     * - 이미 더 최신 version으로 계산된 내용이 있으면 덮어쓰지 않음
+     *   (MySQL은 ON DUPLICATE KEY UPDATE 대입을 왼쪽부터 적용하므로 content를 먼저 비교)
+     */
+    @Modifying
+    @Query(value = """
+      INSERT INTO monthly_report_snapshots
+             (user_id, `year_month`, content, version, built_version, updated_at)
+      VALUES (:userId, :yearMonth, :content, :builtVersion, :builtVersion, :now)
+      ON DUPLICATE KEY UPDATE
+             content       = IF(:builtVersion >= built_version, :content, content),
+             built_version = GREATEST(built_version, :builtVersion),
+             updated_at    = :now
+    """, nativeQuery = true)
+    int saveBuilt(@Param("userId") Long userId,
+                  @Param("yearMonth") String yearMonth,
+                  @Param("content") String content,
+                  @Param("builtVersion") long builtVersion,
+                  @Param("now") LocalDateTime now);
+}
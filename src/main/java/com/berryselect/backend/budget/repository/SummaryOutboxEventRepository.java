@@ -0,0 +1,52 @@
+package com.berryselect.backend.budget.repository;
+
+import com.berryselect.backend.budget.domain.SummaryOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SummaryOutboxEventRepository extends JpaRepository<SummaryOutboxEvent, Long> {
+
+    /**
+     * 미반영 이벤트를 오래된 순으로 잠그며 조회
+     * - SKIP LOCKED: 다른 인스턴스가 처리 중인 행은 건너뛰어 워커 간 중복 처리 방지
+     */
+    @Query(value = """
+      SELECT * FROM summary_outbox_events
+       WHERE processed_at IS NULL
+       ORDER BY id
+       LIMIT :limit
+       FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<SummaryOutboxEvent> lockPending(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE SummaryOutboxEvent e SET e.processedAt = :now WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자 월 단위 이벤트 전체 잠금 (재계산 중 워커와의 동시 반영 방지)
+     */
+    @Query(value = """
+      SELECT id FROM summary_outbox_events
+       WHERE user_id = :userId AND `year_month` = :yearMonth
+       FOR UPDATE
+    """, nativeQuery = true)
+    List<Long> lockUserMonth(@Param("userId") Long userId, @Param("yearMonth") String yearMonth);
+
+    @Modifying
+    @Query("""
+      UPDATE SummaryOutboxEvent e SET e.processedAt = :now
+       WHERE e.userId = :userId AND e.yearMonth = :yearMonth AND e.processedAt IS NULL
+    """)
+    int markUserMonthProcessed(@Param("userId") Long userId,
+                               @Param("yearMonth") String yearMonth,
+                               @Param("now") LocalDateTime now);
+}
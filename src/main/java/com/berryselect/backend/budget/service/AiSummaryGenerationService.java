@@ -0,0 +1,113 @@
+package com.berryselect.backend.budget.service;
+
+import com.berryselect.backend.budget.domain.AnalysisReport;
+import com.berryselect.backend.budget.domain.MonthlyCategorySummary;
+import com.berryselect.backend.budget.domain.ReportType;
+import com.berryselect.backend.budget.repository.AnalysisReportRepository;
+import com.berryselect.backend.budget.repository.MonthlyCategorySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * AI 소비 분석 비동기 생성 (single-flight)
+ * - (사용자, 년월)당 생성 작업은 하나만 진행 - 진행 중인 작업이 있으면 같은 Future를 공유
+ * - 생성은 aiSummaryExecutor에서 트랜잭션 없이 실행 (OpenAI 호출 동안 DB 커넥션 점유 없음)
+ * - 결과는 기준 스냅샷 version과 함께 analysis_reports(AI)에 저장 → version이 같은 동안 조회에서 바로 사용
+ * - OpenAI 호출이 실패하면 저장하지 않고 Future를 예외로 완료 (다음 조회에서 다시 요청)
+ * - API 키 미설정 환경의 기본 분석도 저장하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AiSummaryGenerationService {
+
+    private final AnalysisReportRepository analysisReportRepository;
+    private final MonthlyCategorySummaryRepository monthlyCategorySummaryRepository;
+    private final OpenAiService openAiService;
+    private final MonthlyReportSnapshotService monthlyReportSnapshotService;
+    private final ThreadPoolTaskExecutor aiSummaryExecutor;
+
+    private final Map<Key, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 생성 요청 (이미 진행 중이면 그 작업의 Future 반환)
+     * - 대기열이 가득 차면 예외로 완료된 Future 반환 (다음 조회 때 다시 요청됨)
+     */
+    public CompletableFuture<String> request(Long userId, String yearMonth) {
+        Key key = new Key(userId, yearMonth);
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            aiSummaryExecutor.execute(() -> {
+                try {
+                    future.complete(generate(key));
+                } catch (Throwable t) {
+                    log.error("AI 분석 생성 실패 - userId: {}, yearMonth: {}, error: {}",
+                            userId, yearMonth, t.getMessage(), t);
+                    future.completeExceptionally(t);
+                } finally {
+                    inFlight.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("AI 분석 생성 대기열 초과 - userId: {}, yearMonth: {}", userId, yearMonth);
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private String generate(Key key) {
+        // 분석 기준 데이터 version: 이후 거래/요약 반영으로 바뀌면 다음 조회에서 다시 생성
+        long version = monthlyReportSnapshotService.currentVersion(key.userId(), key.yearMonth());
+
+        // 직전에 끝난 작업이 이미 같은 version으로 저장했을 수 있으므로 다시 확인
+        Optional<AnalysisReport> existing = analysisReportRepository
+                .findByUserIdAndYearMonthAndReportType(key.userId(), key.yearMonth(), ReportType.AI)
+                .stream()
+                .findFirst();
+        if (existing.isPresent() && existing.get().isBuiltFrom(version)) {
+            return existing.get().getContent();
+        }
+
+        List<MonthlyCategorySummary> summaries = monthlyCategorySummaryRepository
+                .findByUserIdAndYearMonthOrderByAmountSpentDesc(key.userId(), key.yearMonth());
+        if (summaries.isEmpty()) {
+            // 거래가 생기면 다시 생성해야 하므로 저장하지 않음
+            return String.format("%s에는 거래 내역이 없습니다.", key.yearMonth());
+        }
+
+        // 호출 실패 시 예외 → Future가 예외로 완료되고 저장하지 않으므로 다음 조회에서 다시 시도
+        String content = openAiService.generateConsumptionAnalysis(key.yearMonth(), summaries);
+        if (!openAiService.isConfigured()) {
+            // API 키 미설정 시의 기본 분석은 저장하지 않음 (키 설정 후 마감된 달도 실제 분석으로 생성되도록)
+            return content;
+        }
+
+        AnalysisReport report = existing.orElseGet(() -> AnalysisReport.builder()
+                .userId(key.userId())
+                .yearMonth(key.yearMonth())
+                .reportType(ReportType.AI)
+                .build());
+        report.replaceContent(content, version);
+        analysisReportRepository.save(report);
+
+        log.info("AI 분석 생성 완료 - userId: {}, yearMonth: {}, version: {}", key.userId(), key.yearMonth(), version);
+        return content;
+    }
+
+    private record Key(Long userId, String yearMonth) {}
+}
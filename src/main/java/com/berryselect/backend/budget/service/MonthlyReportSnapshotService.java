@@ -0,0 +1,106 @@
+package com.berryselect.backend.budget.service;
+
+import com.berryselect.backend.budget.domain.MonthlyReportSnapshot;
+import com.berryselect.backend.budget.dto.response.MonthlyReportDetailResponse;
+import com.berryselect.backend.budget.repository.MonthlyReportSnapshotRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+/**
+ * 월별 상세 리포트 스냅샷 관리
+ * - 조회: 최신 스냅샷이 있으면 JSON 그대로 역직렬화해 응답 (집계 쿼리 없음)
+ * - 무효화: 거래 저장/요약 반영 시 해당 (사용자, 월)의 version 증가
+ * - 마감된 달은 더 이상 무효화되지 않으므로 한 번 계산된 뒤로는 항상 스냅샷에서 응답
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlyReportSnapshotService {
+
+    private static final DateTimeFormatter YEAR_MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final MonthlyReportSnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 최신 스냅샷 조회
+     * - 최신이 아니면 empty와 함께, 재계산 후 저장할 때 쓸 기준 version을 반환
+     */
+    @Transactional(readOnly = true)
+    public Lookup find(Long userId, String yearMonth) {
+        Optional<MonthlyReportSnapshot> snapshot = snapshotRepository.findByUserIdAndYearMonth(userId, yearMonth);
+        long version = snapshot.map(MonthlyReportSnapshot::getVersion).orElse(0L);
+
+        if (snapshot.isPresent() && snapshot.get().isFresh()) {
+            try {
+                MonthlyReportDetailResponse report =
+                        objectMapper.readValue(snapshot.get().getContent(), MonthlyReportDetailResponse.class);
+                return new Lookup(report, version);
+            } catch (JsonProcessingException e) {
+                // 응답 형식이 바뀐 경우 등 → 재계산으로 대체
+                log.warn("리포트 스냅샷 역직렬화 실패 - userId: {}, yearMonth: {}, error: {}",
+                        userId, yearMonth, e.getMessage());
+            }
+        }
+        return new Lookup(null, version);
+    }
+
+    /** 현재 version (스냅샷 행이 없으면 0) */
+    @Transactional(readOnly = true)
+    public long currentVersion(Long userId, String yearMonth) {
+        return snapshotRepository.findByUserIdAndYearMonth(userId, yearMonth)
+                .map(MonthlyReportSnapshot::getVersion)
+                .orElse(0L);
+    }
+
+    /**
+     * 계산한 리포트 저장 (조회 트랜잭션과 분리)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(Long userId, String yearMonth, long builtVersion, MonthlyReportDetailResponse report) {
+        try {
+            String content = objectMapper.writeValueAsString(report);
+            snapshotRepository.saveBuilt(userId, yearMonth, content, builtVersion, LocalDateTime.now());
+        } catch (JsonProcessingException e) {
+            log.warn("리포트 스냅샷 직렬화 실패 - userId: {}, yearMonth: {}, error: {}",
+                    userId, yearMonth, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 월 스냅샷 무효화 (호출한 트랜잭션에 참여)
+     */
+    @Transactional
+    public void markStale(Long userId, String yearMonth) {
+        snapshotRepository.markStale(userId, yearMonth, LocalDateTime.now());
+    }
+
+    /** 거래 시각(KST 기준 월)의 스냅샷 무효화 */
+    @Transactional
+    public void markStale(Long userId, Instant txTime) {
+        markStale(userId, txTime.atZone(KST).format(YEAR_MONTH));
+    }
+
+    /**
+     * 스냅샷 조회 결과
+     * @param report 최신 스냅샷 (없거나 무효면 null)
+     * @param version 조회 시점 version (재계산 결과 저장 시 builtVersion으로 사용)
+     */
+    public record Lookup(MonthlyReportDetailResponse report, long version) {
+        public boolean hit() {
+            return report != null;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.berryselect.backend.budget.service;
 
 import com.berryselect.backend.budget.domain.MonthlyCategorySummary;
+import com.berryselect.backend.common.exception.ApiException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,13 +22,24 @@ public class OpenAiService {
     @Value("${openai.api.key:}")
     private String apiKey;
 
+    // 로컬 스텁 서버로 바꿔 테스트할 수 있도록 설정값으로 분리
+    @Value("${openai.api.url:https://api.openai.com/v1/chat/completions}")
+    private String apiUrl;
+
     private final RestTemplate restTemplate;
 
+    // API 키가 설정되어 실제 OpenAI 분석을 만드는 환경인지 (false면 기본 분석만 반환)
+    public boolean isConfigured() {
+        return !apiKey.isEmpty();
+    }
+
     /**
      * OpenAI를 통한 소비 패턴 분석
+     * - API 키가 없으면 기본 분석 반환 (OpenAI 미사용 환경, 저장하지 않도록 isConfigured로 구분)
+     * @throws ApiException 호출 실패/타임아웃/응답 형식 오류 (실패 문구를 분석 결과로 저장하지 않도록 예외로 알림)
      */
     public String generateConsumptionAnalysis(String yearMonth, List<MonthlyCategorySummary> summaries) {
-        if (apiKey.isEmpty()) {
+        if (!isConfigured()) {
             log.warn("OpenAI API 키가 설정되지 않았습니다. 기본 분석을 반환합니다.");
             return generateDefaultAnalysis(yearMonth, summaries);
         }
@@ -51,14 +63,15 @@ public class OpenAiService {
             HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
 
             @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(
-                    "https://api.openai.com/v1/chat/completions", request, Map.class);
+            Map<String, Object> response = restTemplate.postForObject(apiUrl, request, Map.class);
 
             return extractContentFromResponse(response);
 
+        } catch (ApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("OpenAI API 호출 실패: {}", e.getMessage(), e);
-            return generateDefaultAnalysis(yearMonth, summaries);
+            throw new ApiException("OPENAI_CALL_FAILED", "OpenAI API 호출 실패: " + e.getMessage(), e);
         }
     }
 
@@ -105,17 +118,19 @@ public class OpenAiService {
                 Map<String, Object> choice = choices.get(0);
                 Map<String, Object> message = (Map<String, Object>) choice.get("message");
                 String content = (String) message.get("content");
-                return content != null ? content.trim() : "AI 분석 결과를 가져오는데 실패했습니다.";
+                if (content != null && !content.isBlank()) {
+                    return content.trim();
+                }
             }
         } catch (Exception e) {
             log.error("OpenAI 응답 파싱 실패: {}", e.getMessage());
         }
 
-        return "AI 분석 결과를 처리하는데 실패했습니다.";
+        throw new ApiException("OPENAI_INVALID_RESPONSE", "OpenAI 응답에서 분석 내용을 찾을 수 없습니다.");
     }
 
     /**
-     * OpenAI 실패시 기본 분석 생성
+     * OpenAI 미사용 환경(API 키 미설정)용 기본 분석 생성
      */
     private String generateDefaultAnalysis(String yearMonth, List<MonthlyCategorySummary> summaries) {
         if (summaries.isEmpty()) {
@@ -5,17 +5,18 @@ import com.berryselect.backend.budget.domain.MonthlyCategorySummary;
 import com.berryselect.backend.budget.domain.ReportType;
 import com.berryselect.backend.budget.dto.response.CategorySpendingResponse;
 import com.berryselect.backend.budget.dto.response.MonthlyReportDetailResponse;
+import com.berryselect.backend.budget.dto.response.MonthlyReportDetailResponse.AiSummaryStatus;
 import com.berryselect.backend.budget.dto.response.RecommendationUsageResponse;
 import com.berryselect.backend.budget.mapper.BudgetReportMapper;
 import com.berryselect.backend.budget.repository.AnalysisReportRepository;
 import com.berryselect.backend.budget.repository.MonthlyCategorySummaryRepository;
-import com.berryselect.backend.merchant.domain.Category;
-import com.berryselect.backend.merchant.repository.CategoryRepository;
-import com.berryselect.backend.transaction.repository.AppliedBenefitRepository;
 import com.berryselect.backend.transaction.repository.TransactionRepository;
+import com.berryselect.backend.transaction.repository.TransactionRepository.MonthlyUsageStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -24,7 +25,12 @@ import java.time.Instant;
 import java.time.YearMonth;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 예산 및 리포트 관련 비즈니스 로직 서비스
@@ -35,23 +41,43 @@ import java.util.List;
 @Slf4j
 public class ReportService {
 
+    private static final String AI_SUMMARY_PENDING_MESSAGE = "AI 분석을 생성 중입니다. 잠시 후 다시 확인해주세요.";
+
     private final MonthlyCategorySummaryRepository monthlyCategorySummaryRepository;
     private final AnalysisReportRepository analysisReportRepository;
     private final TransactionRepository transactionRepository;
-    private final AppliedBenefitRepository appliedBenefitRepository;
-    private final CategoryRepository categoryRepository;
     private final BudgetReportMapper budgetReportMapper;
-    private final OpenAiService openAiService;
+    private final AiSummaryGenerationService aiSummaryGenerationService;
+    private final MonthlyReportSnapshotService monthlyReportSnapshotService;
+
+    @Value("${report.ai.wait-timeout-ms:10000}")
+    private long aiWaitTimeoutMs;
 
     /**
      * 월별 상세 리포트 조회
+     * - 최신 스냅샷이 있으면 그대로 사용하고, 없거나 무효화된 경우에만 집계 후 스냅샷 갱신
+     * - AI 요약은 스냅샷에 포함하지 않고 매번 analysis_reports에서 조회
+     * - AI 요약이 없거나 스냅샷 version이 바뀌었으면 비동기 생성을 요청하고 즉시 응답 (PENDING / REFRESHING)
      */
     public MonthlyReportDetailResponse getMonthlyReportDetail(Long userId, String yearMonth) {
         log.info("월별 상세 리포트 조회 - userId: {}, yearMonth: {}", userId, yearMonth);
 
-        // 1. 월별 요약 데이터 로드
-        List<MonthlyCategorySummary> summaries =
-                monthlyCategorySummaryRepository.findByUserIdAndYearMonthOrderByAmountSpentDesc(userId, yearMonth);
+        MonthlyReportSnapshotService.Lookup snapshot = monthlyReportSnapshotService.find(userId, yearMonth);
+        if (snapshot.hit()) {
+            log.debug("월별 리포트 스냅샷 사용 - userId: {}, yearMonth: {}", userId, yearMonth);
+            return withAiSummary(snapshot.report(), userId, yearMonth, snapshot.version());
+        }
+
+        // 1. 월별 요약 데이터 + 카테고리명 로드 (조인 1회)
+        List<MonthlyCategorySummary> summaries = new ArrayList<>();
+        Map<Long, String> categoryNames = new HashMap<>();
+        for (Object[] row : monthlyCategorySummaryRepository.findWithCategoryNameByUserIdAndYearMonth(userId, yearMonth)) {
+            MonthlyCategorySummary summary = (MonthlyCategorySummary) row[0];
+            summaries.add(summary);
+            if (summary.getCategoryId() != null && row[1] != null) {
+                categoryNames.put(summary.getCategoryId(), (String) row[1]);
+            }
+        }
 
         // 2. 리스트에서 직접 총 지출/절약/건수를 계산
         Long totalSpent = summaries.stream()
@@ -66,77 +92,63 @@ public class ReportService {
 
         // 3. 기타 계산 및 응답 DTO 생성
         List<CategorySpendingResponse> categorySpending =
-                createCategorySpendingResponses(summaries, totalSpent);
+                createCategorySpendingResponses(summaries, categoryNames, totalSpent);
 
         RecommendationUsageResponse recommendationUsage =
                 createRecommendationUsageResponse(userId, yearMonth);
 
-        String aiSummary = getOrGenerateAiSummary(userId, yearMonth, summaries);
         Double savingRate = calculateSavingRate(totalSaved, totalSpent);
 
-        return budgetReportMapper.toMonthlyReportDetailResponse(
+        MonthlyReportDetailResponse report = budgetReportMapper.toMonthlyReportDetailResponse(
                 yearMonth, totalSpent, totalSaved, totalTransactionCount,
-                categorySpending, recommendationUsage, aiSummary, savingRate);
+                categorySpending, recommendationUsage, null, savingRate);
+        monthlyReportSnapshotService.save(userId, yearMonth, snapshot.version(), report);
+
+        return withAiSummary(report, userId, yearMonth, snapshot.version());
     }
 
     /**
      * AI 분석 리포트 생성 또는 조회
+     * - 생성은 AiSummaryGenerationService 작업을 공유하며, 트랜잭션 없이 최대 aiWaitTimeoutMs 동안만 대기
+     * - 시간 안에 끝나지 않으면 생성 중 안내 문구 반환 (작업은 계속 진행되어 저장됨)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String generateOrGetAiSummary(Long userId, String yearMonth) {
         log.info("AI 분석 리포트 생성/조회 - userId: {}, yearMonth: {}", userId, yearMonth);
 
-        String existingReport = getAiSummary(userId, yearMonth); // DB에 있는지 조회
-        if (existingReport != null) {
-            return existingReport;
-        }
-
-        List<MonthlyCategorySummary> summaries = monthlyCategorySummaryRepository
-                .findByUserIdAndYearMonthOrderByAmountSpentDesc(userId, yearMonth);
-
-        log.info("=== Repository 조회 파라미터 ===");
-        log.info("조회할 userId: '{}' (타입: {})", userId, userId.getClass().getSimpleName());
-        log.info("조회할 yearMonth: '{}' (타입: {})", yearMonth, yearMonth.getClass().getSimpleName());
-        log.info("조회 결과 개수: {}", summaries.size());
-
-        if (summaries.isEmpty()) {
-            log.warn("Repository에서 데이터를 찾지 못함!");
-        } else {
-            log.info("첫 번째 데이터: userId={}, yearMonth={}, categoryId={}, amountSpent={}",
-                    summaries.get(0).getUserId(),
-                    summaries.get(0).getYearMonth(),
-                    summaries.get(0).getCategoryId(),
-                    summaries.get(0).getAmountSpent());
+        long version = monthlyReportSnapshotService.currentVersion(userId, yearMonth);
+        AnalysisReport existingReport = findAiSummary(userId, yearMonth); // DB에 있는지 조회
+        if (existingReport != null && existingReport.isBuiltFrom(version)) {
+            return existingReport.getContent();
         }
 
-        // 새로 AI 리포트 생성
-        String aiContent = generateAiSummaryContent(yearMonth, summaries);
-        if(aiContent == null) {
-            return "AI 분석을 생성할 수 없습니다.";
+        // 이전 분석이 있으면 재생성이 끝나지 않거나 실패해도 그 내용을 반환
+        String fallback = existingReport != null ? existingReport.getContent() : null;
+        try {
+            return aiSummaryGenerationService.request(userId, yearMonth)
+                    .get(aiWaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.info("AI 분석 생성 대기 시간 초과 - userId: {}, yearMonth: {}", userId, yearMonth);
+            return fallback != null ? fallback : AI_SUMMARY_PENDING_MESSAGE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback != null ? fallback : "AI 분석을 생성할 수 없습니다.";
+        } catch (ExecutionException e) {
+            log.error("AI 분석 생성 실패 - userId: {}, yearMonth: {}, error: {}",
+                    userId, yearMonth, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return fallback != null ? fallback : "AI 분석을 생성할 수 없습니다.";
         }
-
-        // 성공시 DB에 INSERT
-        AnalysisReport aiReport = AnalysisReport.builder()
-                .userId(userId)
-                .yearMonth(yearMonth)
-                .reportType(ReportType.AI)
-                .content(aiContent)
-                .build();
-
-        analysisReportRepository.save(aiReport);
-
-        return aiContent;
     }
 
     // ======================== Private Helper Methods ========================
 
     private List<CategorySpendingResponse> createCategorySpendingResponses(
-            List<MonthlyCategorySummary> summaries, Long totalSpent) {
+            List<MonthlyCategorySummary> summaries, Map<Long, String> categoryNames, Long totalSpent) {
 
         List<CategorySpendingResponse> responses = new ArrayList<>();
 
         for (MonthlyCategorySummary summary : summaries) {
-            String categoryName = getCategoryName(summary.getCategoryId());
+            String categoryName = categoryNames.getOrDefault(summary.getCategoryId(), "기타");
             Double spendingRatio = calculateSpendingRatio(summary.getAmountSpent(), totalSpent);
             Double categorySavingRate = calculateSavingRate(summary.getAmountSaved(), summary.getAmountSpent());
 
@@ -156,12 +168,16 @@ public class ReportService {
         Instant startUtc = range[0];
         Instant endUtc   = range[1];
 
-        // 변경된 Repository 메서드 호출
-        Long totalTransactions = transactionRepository.countTotalTransactionsByMonth(userId, startUtc, endUtc);
-        Long recommendationUsedTransactions = transactionRepository.countRecommendationUsedTransactions(userId, startUtc, endUtc);
+        // 거래 수 / 추천 거래 수 / 총 절감액을 한 번의 집계 쿼리로 조회
+        MonthlyUsageStats stats = transactionRepository.aggregateMonthlyUsage(userId, startUtc, endUtc);
+        Long totalTransactions = stats.getTotalTransactions() != null ? stats.getTotalTransactions() : 0L;
+        Long recommendationUsedTransactions =
+                stats.getRecommendedTransactions() != null ? stats.getRecommendedTransactions() : 0L;
+        Long totalSaved = stats.getTotalSaved() != null ? stats.getTotalSaved() : 0L;
 
         BigDecimal usageRate = calculateUsageRate(recommendationUsedTransactions, totalTransactions);
-        Long totalSavedFromRecommendation = calculateSavedFromRecommendations(userId, startUtc, endUtc);
+        Long totalSavedFromRecommendation =
+                calculateSavedFromRecommendations(totalSaved, recommendationUsedTransactions, totalTransactions);
         Long averageSaving = calculateAverageSaving(totalSavedFromRecommendation, recommendationUsedTransactions);
 
         return budgetReportMapper.toRecommendationUsageResponse(
@@ -169,58 +185,59 @@ public class ReportService {
                 totalSavedFromRecommendation, averageSaving);
     }
 
-    private String getOrGenerateAiSummary(Long userId, String yearMonth, List<MonthlyCategorySummary> summaries) {
-        String existingReport = getAiSummary(userId, yearMonth);
-        if (existingReport != null) {
-            return existingReport;
+    /**
+     * 리포트에 AI 요약 첨부
+     * - 저장된 분석이 현재 스냅샷 version 기준이면 READY, 거래가 없는 달은 안내 문구로 READY
+     * - 이전 version 기준이면 이전 분석을 보여주며 재생성 요청 (REFRESHING)
+     * - 없으면 생성 요청만 하고 PENDING (같은 달 동시 조회는 하나의 생성 작업을 공유)
+     * - 마감된 달은 version이 더 바뀌지 않으므로 한 번 생성된 분석을 계속 사용
+     */
+    private MonthlyReportDetailResponse withAiSummary(MonthlyReportDetailResponse report,
+                                                      Long userId, String yearMonth, long version) {
+        AnalysisReport existingReport = findAiSummary(userId, yearMonth);
+        if (existingReport != null && existingReport.isBuiltFrom(version)) {
+            return report.toBuilder()
+                    .aiSummary(existingReport.getContent())
+                    .aiSummaryStatus(AiSummaryStatus.READY)
+                    .build();
+        }
+
+        if (report.getCategorySpending().isEmpty()) {
+            return report.toBuilder()
+                    .aiSummary(String.format("%s에는 거래 내역이 없습니다.", yearMonth))
+                    .aiSummaryStatus(AiSummaryStatus.READY)
+                    .build();
         }
 
-        return generateAiSummaryContent(yearMonth, summaries);
+        aiSummaryGenerationService.request(userId, yearMonth);
+        if (existingReport != null) {
+            return report.toBuilder()
+                    .aiSummary(existingReport.getContent())
+                    .aiSummaryStatus(AiSummaryStatus.REFRESHING)
+                    .build();
+        }
+        return report.toBuilder()
+                .aiSummary(null)
+                .aiSummaryStatus(AiSummaryStatus.PENDING)
+                .build();
     }
 
-    // String "2024-12" → YearMonth 변환
-    // ReportType.AI → "AI" 변환
-    private String getAiSummary(Long userId, String yearMonth) {
+    private AnalysisReport findAiSummary(Long userId, String yearMonth) {
         return analysisReportRepository
                 .findByUserIdAndYearMonthAndReportType(userId, yearMonth, ReportType.AI)
                 .stream()
                 .findFirst()
-                .map(AnalysisReport::getContent)
                 .orElse(null);
     }
 
-    /**
-     * AI 분석 리포트 내용 생성 (OpenAI 사용)
-     */
-    private String generateAiSummaryContent(String yearMonth, List<MonthlyCategorySummary> summaries) {
-        if (summaries.isEmpty()) {
-            return String.format("%s에는 거래 내역이 없습니다.", yearMonth);
-        }
-
-        try {
-            // OpenAI API 호출
-            return openAiService.generateConsumptionAnalysis(yearMonth, summaries);
-        } catch (Exception e) {
-            log.error("OpenAI API 호출 실패: {}", e.getMessage(), e);
-            return null;
-        }
-    }
-
-    private Long calculateSavedFromRecommendations(Long userId, Instant startUtc, Instant endUtc) {
-        Long totalSaved = appliedBenefitRepository.getTotalSavedByUserAndMonth(userId, startUtc, endUtc);
-        Double usageRate = getRecommendationUsageRate(userId, startUtc, endUtc);
-        return Math.round(totalSaved * usageRate);
-    }
-
-    private Double getRecommendationUsageRate(Long userId, Instant startUtc, Instant endUtc) {
-        Long totalTransactions = transactionRepository.countTotalTransactionsByMonth(userId, startUtc, endUtc);
-        Long recommendationUsedTransactions = transactionRepository.countRecommendationUsedTransactions(userId, startUtc, endUtc);
-
+    // 총 절감액 × 추천 사용 비율
+    private Long calculateSavedFromRecommendations(Long totalSaved, Long recommendationUsedTransactions,
+                                                   Long totalTransactions) {
         if (totalTransactions == 0) {
-            return 0.0;
+            return 0L;
         }
-
-        return recommendationUsedTransactions.doubleValue() / totalTransactions.doubleValue();
+        double usageRate = recommendationUsedTransactions.doubleValue() / totalTransactions.doubleValue();
+        return Math.round(totalSaved * usageRate);
     }
 
     private Double calculateSavingRate(Long saved, Long spent) {
@@ -254,16 +271,6 @@ public class ReportService {
         return totalSaved / count;
     }
 
-    private String getCategoryName(Long categoryId) {
-        if (categoryId == null) {
-            return "기타";
-        }
-
-        return categoryRepository.findById(categoryId)
-                .map(Category::getName)
-                .orElse("기타");
-    }
-
     private Instant[] getStartEndUtc(String yearMonth) {
         YearMonth ym = YearMonth.parse(yearMonth);
         ZoneId kst = ZoneId.of("Asia/Seoul");
@@ -0,0 +1,39 @@
+package com.berryselect.backend.budget.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월별 요약 아웃박스 주기 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SummaryAggregationScheduler {
+
+    private final SummaryAggregationService summaryAggregationService;
+
+    @Value("${summary.aggregation.enabled:true}")
+    private boolean enabled;
+
+    // 한 번 실행에서 처리할 최대 배치 수 (밀린 이벤트가 많아도 스케줄러 스레드를 오래 점유하지 않도록)
+    @Value("${summary.aggregation.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${summary.aggregation.flush-interval-ms:2000}")
+    public void flush() {
+        if (!enabled) return;
+
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int processed = summaryAggregationService.flushBatch();
+                if (processed < summaryAggregationService.getBatchSize()) break;
+            }
+        } catch (Exception e) {
+            log.error("월별 요약 반영 실패 - 다음 주기에 재시도", e);
+        }
+    }
+}
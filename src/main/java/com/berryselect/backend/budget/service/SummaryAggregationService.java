@@ -0,0 +1,155 @@
+package com.berryselect.backend.budget.service;
+
+import com.berryselect.backend.budget.domain.SummaryOutboxEvent;
+import com.berryselect.backend.budget.repository.MonthlyCategorySummaryRepository;
+import com.berryselect.backend.budget.repository.SummaryOutboxEventRepository;
+import com.berryselect.backend.transaction.domain.Transaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 거래 → 월별 카테고리 요약 비동기 집계
+ * - 결제 트랜잭션에서는 아웃박스 이벤트만 기록 (요약 테이블 쓰기 없음)
+ * - 워커가 미반영 이벤트를 (사용자, 월, 카테고리) 단위로 합쳐 한 번에 반영
+ * - 이벤트는 보관되므로 월 단위 재계산 가능
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SummaryAggregationService {
+
+    private static final DateTimeFormatter YEAR_MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final SummaryOutboxEventRepository outboxRepository;
+    private final MonthlyCategorySummaryRepository monthlyCategorySummaryRepository;
+    private final MonthlyReportSnapshotService monthlyReportSnapshotService;
+
+    @Value("${summary.aggregation.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 거래 1건의 요약 반영 이벤트 기록 (호출한 트랜잭션에 참여)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Transaction transaction, long savedAmount) {
+        if (transaction.getCategoryId() == null) {
+            log.debug("카테고리 없는 거래는 월별 요약 대상에서 제외 - txId: {}", transaction.getTxId());
+            return;
+        }
+
+        // 년월 계산 (KST 기준)
+        String yearMonth = transaction.getTxTime()
+                .atZone(ZoneId.of("Asia/Seoul"))
+                .format(YEAR_MONTH);
+
+        outboxRepository.save(SummaryOutboxEvent.builder()
+                .eventKey(SummaryOutboxEvent.transactionKey(transaction.getTxId()))
+                .userId(transaction.getUserId())
+                .yearMonth(yearMonth)
+                .categoryId(transaction.getCategoryId())
+                .amountSpent(transaction.getPaidAmount().longValue())
+                .amountSaved(savedAmount)
+                .build());
+    }
+
+    /**
+     * 미반영 이벤트 한 배치 반영
+     * - 같은 키의 증분은 합쳐서 키당 upsert 1회
+     * - 키 정렬 순서로 반영해 동시 워커 간 행 잠금 순서를 일정하게 유지
+     * - 요약 반영과 처리 표시가 같은 트랜잭션이므로 이벤트는 정확히 한 번 반영됨
+     *
+     * @return 처리한 이벤트 수
+     */
+    @Transactional
+    public int flushBatch() {
+        List<SummaryOutboxEvent> events = outboxRepository.lockPending(batchSize);
+        if (events.isEmpty()) return 0;
+
+        Map<SummaryKey, long[]> deltas = new TreeMap<>();
+        List<Long> ids = new ArrayList<>(events.size());
+        for (SummaryOutboxEvent e : events) {
+            long[] delta = deltas.computeIfAbsent(
+                    new SummaryKey(e.getUserId(), e.getYearMonth(), e.getCategoryId()), k -> new long[3]);
+            delta[0] += e.getAmountSpent();
+            delta[1] += e.getAmountSaved();
+            delta[2] += 1;
+            ids.add(e.getId());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((key, delta) -> monthlyCategorySummaryRepository.upsertAdd(
+                key.userId(), key.yearMonth(), key.categoryId(), delta[0], delta[1], (int) delta[2], now));
+        outboxRepository.markProcessed(ids, now);
+
+        // 요약이 바뀐 (사용자, 월)의 리포트 스냅샷 무효화
+        Set<UserMonth> touched = new TreeSet<>();
+        deltas.keySet().forEach(key -> touched.add(new UserMonth(key.userId(), key.yearMonth())));
+        touched.forEach(um -> monthlyReportSnapshotService.markStale(um.userId(), um.yearMonth()));
+
+        log.debug("월별 요약 반영 - events: {}, keys: {}", events.size(), deltas.size());
+        return events.size();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 사용자 월 요약을 아웃박스 이벤트로 재계산 (replay)
+     * - 해당 월 이벤트를 잠근 뒤 요약 삭제 → 재생성 → 미반영 이벤트 처리 표시
+     * - 아웃박스 도입 전 거래가 있는 달은 이벤트로 다시 만들 수 없으므로 거부 (삭제만 되고 복구되지 않음)
+     *   이벤트 1건 = 거래 1건이므로, 이벤트 수가 현재 요약의 거래 건수보다 적으면 이벤트 없는 거래가 있는 것
+     * @throws IllegalStateException 이벤트가 없거나 현재 요약보다 적은 경우
+     */
+    @Transactional
+    public void rebuildMonth(Long userId, String yearMonth) {
+        int events = outboxRepository.lockUserMonth(userId, yearMonth).size();
+        long summarizedTx = monthlyCategorySummaryRepository.sumTxCount(userId, yearMonth);
+        if (events == 0 || events < summarizedTx) {
+            log.warn("월별 요약 재계산 거부 - userId: {}, yearMonth: {}, events: {}, summarizedTx: {}",
+                    userId, yearMonth, events, summarizedTx);
+            throw new IllegalStateException("아웃박스 이벤트로 재계산할 수 없는 월입니다. (events: "
+                    + events + ", 요약 거래 건수: " + summarizedTx + ")");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        monthlyCategorySummaryRepository.deleteByUserIdAndYearMonth(userId, yearMonth);
+        int rows = monthlyCategorySummaryRepository.rebuildFromOutbox(userId, yearMonth, now);
+        outboxRepository.markUserMonthProcessed(userId, yearMonth, now);
+        monthlyReportSnapshotService.markStale(userId, yearMonth);
+
+        log.info("월별 요약 재계산 완료 - userId: {}, yearMonth: {}, categories: {}", userId, yearMonth, rows);
+    }
+
+    private record SummaryKey(Long userId, String yearMonth, Long categoryId) implements Comparable<SummaryKey> {
+        private static final Comparator<SummaryKey> ORDER = Comparator
+                .comparing(SummaryKey::userId)
+                .thenComparing(SummaryKey::yearMonth)
+                .thenComparing(SummaryKey::categoryId);
+
+        @Override
+        public int compareTo(SummaryKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record UserMonth(Long userId, String yearMonth) implements Comparable<UserMonth> {
+        private static final Comparator<UserMonth> ORDER = Comparator
+                .comparing(UserMonth::userId)
+                .thenComparing(UserMonth::yearMonth);
+
+        @Override
+        public int compareTo(UserMonth other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
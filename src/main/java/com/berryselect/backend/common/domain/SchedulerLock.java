@@ -0,0 +1,38 @@
+package com.berryselect.backend.common.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 임대(lease) (작업/샤드 이름당 1행)
+ * - lockedUntil이 지나지 않았으면 owner 인스턴스만 작업 실행
+ * - 시각은 모두 DB 시계 기준 (인스턴스 간 시계 차이 영향 없음)
+ * - lastRunKey: 마지막으로 끝까지 실행된 회차 (같은 회차는 임대가 만료돼도 다시 실행하지 않음)
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_run_key", length = 64)
+    private String lastRunKey;
+}
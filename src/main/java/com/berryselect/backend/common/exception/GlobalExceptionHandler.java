@@ -136,6 +136,7 @@ public class GlobalExceptionHandler {
         if (sc == 401) code = "UNAUTHORIZED";
         else if (sc == 403) code = "FORBIDDEN";
         else if (sc == 404) code = "NOT_FOUND";
+        else if (sc == 409) code = "CONFLICT";
         else code = "ERROR";
 
         return ResponseEntity.status(status)
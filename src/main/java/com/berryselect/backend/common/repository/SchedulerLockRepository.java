@@ -0,0 +1,91 @@
+package com.berryselect.backend.common.repository;
+
+import com.berryselect.backend.common.domain.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 임대 행이 없으면 만료된 상태로 생성 (이미 있으면 무시)
+    @Transactional
+    @Modifying
+    @Query(value = """
+      INSERT IGNORE INTO scheduler_locks (name, owner, locked_at, locked_until)
+      VALUES (:name, '', NOW(6), NOW(6))
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+
+    /**
+     * 임대 획득 (만료됐거나 이미 내 것일 때만) → 1이면 획득
+     * - 행 잠금 UPDATE 한 번으로 판정하므로 여러 인스턴스가 동시에 시도해도 1곳만 성공
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+      UPDATE scheduler_locks
+         SET owner        = :owner,
+             locked_at    = NOW(6),
+             locked_until = TIMESTAMPADD(MICROSECOND, :lockAtMostMillis * 1000, NOW(6))
+       WHERE name = :name
+         AND (locked_until <= NOW(6) OR owner = :owner)
+    """, nativeQuery = true)
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("lockAtMostMillis") long lockAtMostMillis);
+
+    /**
+     * 회차 단위 임대 획득 → 1이면 획득
+     * - acquire 조건 + 이번 회차(runKey)를 이미 끝낸 임대는 만료됐어도 획득 불가
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+      UPDATE scheduler_locks
+         SET owner        = :owner,
+             locked_at    = NOW(6),
+             locked_until = TIMESTAMPADD(MICROSECOND, :lockAtMostMillis * 1000, NOW(6))
+       WHERE name = :name
+         AND (locked_until <= NOW(6) OR owner = :owner)
+         AND (last_run_key IS NULL OR last_run_key <> :runKey)
+    """, nativeQuery = true)
+    int acquireForRun(@Param("name") String name,
+                      @Param("owner") String owner,
+                      @Param("lockAtMostMillis") long lockAtMostMillis,
+                      @Param("runKey") String runKey);
+
+    /**
+     * 임대 반납
+     * - 획득 시각 + lockAtLeast 까지는 유지: 같은 cron으로 조금 늦게 깨어난 다른 인스턴스가 다시 실행하지 않도록
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+      UPDATE scheduler_locks
+         SET locked_until = GREATEST(NOW(6), TIMESTAMPADD(MICROSECOND, :lockAtLeastMillis * 1000, locked_at))
+       WHERE name = :name
+         AND owner = :owner
+    """, nativeQuery = true)
+    int release(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("lockAtLeastMillis") long lockAtLeastMillis);
+
+    /**
+     * 회차 실행 완료 기록 후 임대 반납 (release와 같은 lockAtLeast 유지)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+      UPDATE scheduler_locks
+         SET last_run_key = :runKey,
+             locked_until = GREATEST(NOW(6), TIMESTAMPADD(MICROSECOND, :lockAtLeastMillis * 1000, locked_at))
+       WHERE name = :name
+         AND owner = :owner
+    """, nativeQuery = true)
+    int complete(@Param("name") String name,
+                 @Param("owner") String owner,
+                 @Param("runKey") String runKey,
+                 @Param("lockAtLeastMillis") long lockAtLeastMillis);
+}
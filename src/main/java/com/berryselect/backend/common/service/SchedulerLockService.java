@@ -0,0 +1,126 @@
+package com.berryselect.backend.common.service;
+
+import com.berryselect.backend.common.repository.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * DB 임대(scheduler_locks) 기반 스케줄 작업 단일 실행
+ * - 여러 인스턴스에서 같은 @Scheduled가 돌아도 임대를 얻은 1곳만 실행
+ * - lockAtMost: 실행 중 인스턴스가 죽어도 이 시간이 지나면 다른 인스턴스가 가져갈 수 있음 (작업 최대 소요시간보다 길게)
+ * - lockAtLeast: 빨리 끝나도 이 시간 동안은 임대 유지 (cron 주기보다 짧게)
+ * - 트랜잭션 없이 호출 (임대 획득/반납은 각각 짧은 트랜잭션, 작업은 임대 밖 트랜잭션 경계를 따름)
+ */
+@Service
+@Slf4j
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String owner;
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository,
+                                @Value("${scheduler.lock.owner:}") String owner) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        // 기본값: pid@host + 임의 접미사 (같은 호스트명/pid로 뜨는 컨테이너 구분)
+        this.owner = !owner.isBlank()
+                ? owner
+                : ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 임대를 얻으면 task 실행 후 반납
+     * @return 실행했으면 true, 다른 인스턴스가 보유 중이라 건너뛰었으면 false
+     */
+    public boolean runLocked(String name, Duration lockAtMost, Duration lockAtLeast, Runnable task) {
+        if (!tryLock(name, lockAtMost)) {
+            log.debug("스케줄 임대 보유 중인 인스턴스가 있어 건너뜀 - name: {}", name);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            unlock(name, lockAtLeast);
+        }
+    }
+
+    /**
+     * 작업을 사용자 ID 샤드로 나눠 샤드별 임대로 실행
+     * - 샤드마다 "name#번호" 임대를 따로 잡으므로 여러 인스턴스가 서로 다른 샤드를 병렬 처리
+     * - 인스턴스마다 임의의 샤드부터 돌아 같은 샤드 경합을 줄임
+     * - 끝낸 샤드는 runKey(회차, 예: 실행 날짜)를 기록 → 오래 걸려 lockAtLeast 뒤에 반납돼도
+     *   같은 회차에서 다른 인스턴스가 다시 실행하지 않음 (실패한 샤드는 기록하지 않아 다른 인스턴스가 이어서 실행)
+     * @return 이 인스턴스가 처리한 샤드 수
+     */
+    public int runSharded(String name, String runKey, int shardCount, Duration lockAtMost, Duration lockAtLeast,
+                          IntConsumer shardTask) {
+        if (shardCount <= 1) {
+            return runOnce(name, runKey, lockAtMost, lockAtLeast, () -> shardTask.accept(0)) ? 1 : 0;
+        }
+
+        int processed = 0;
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            int shard = (start + i) % shardCount;
+            if (runOnce(name + "#" + shard, runKey, lockAtMost, lockAtLeast, () -> shardTask.accept(shard))) {
+                processed++;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 회차(runKey)당 한 번만 실행
+     * @return 실행했으면 true, 다른 인스턴스가 보유 중이거나 이미 이 회차를 끝냈으면 false
+     */
+    public boolean runOnce(String name, String runKey, Duration lockAtMost, Duration lockAtLeast, Runnable task) {
+        schedulerLockRepository.insertIfAbsent(name);
+        if (schedulerLockRepository.acquireForRun(name, owner, lockAtMost.toMillis(), runKey) != 1) {
+            log.debug("스케줄 임대 보유 중이거나 이미 실행된 회차라 건너뜀 - name: {}, runKey: {}", name, runKey);
+            return false;
+        }
+
+        boolean completed = false;
+        try {
+            task.run();
+            completed = true;
+            return true;
+        } finally {
+            if (completed) {
+                complete(name, runKey, lockAtLeast);
+            } else {
+                unlock(name, lockAtLeast);
+            }
+        }
+    }
+
+    public boolean tryLock(String name, Duration lockAtMost) {
+        schedulerLockRepository.insertIfAbsent(name);
+        return schedulerLockRepository.acquire(name, owner, lockAtMost.toMillis()) == 1;
+    }
+
+    private void complete(String name, String runKey, Duration lockAtLeast) {
+        try {
+            schedulerLockRepository.complete(name, owner, runKey, lockAtLeast.toMillis());
+        } catch (Exception e) {
+            // 기록 실패 시 lockAtMost가 지나면 만료 → 같은 회차가 다시 실행될 수 있음
+            log.warn("스케줄 회차 완료 기록 실패 - name: {}, runKey: {}", name, runKey, e);
+        }
+    }
+
+    public void unlock(String name, Duration lockAtLeast) {
+        try {
+            schedulerLockRepository.release(name, owner, lockAtLeast.toMillis());
+        } catch (Exception e) {
+            // 반납 실패 시 lockAtMost가 지나면 자동 만료
+            log.warn("스케줄 임대 반납 실패 - name: {}", name, e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.berryselect.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 대형 지갑 추천 조합 병렬 평가용 풀 (요청 스레드/공용 풀과 분리, 크기 제한)
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool recommendationSearchPool(
+            @Value("${recommendation.search.parallel.threads:0}") int threads) {
+        int parallelism = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors());
+        return new ForkJoinPool(parallelism);
+    }
+
+    // AI 소비 분석 생성용 풀 (외부 API 호출이 요청 스레드/DB 커넥션을 붙잡지 않도록 분리, 대기열 제한)
+    @Bean
+    public ThreadPoolTaskExecutor aiSummaryExecutor(
+            @Value("${report.ai.executor.threads:2}") int threads,
+            @Value("${report.ai.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-summary-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    // 카카오 알림 발송 워커 풀 (대기열 제한 - 발송 스케줄러가 남은 자리만큼만 가져감)
+    @Bean
+    public ThreadPoolTaskExecutor notificationDispatchExecutor(
+            @Value("${notification.dispatch.threads:4}") int threads,
+            @Value("${notification.dispatch.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
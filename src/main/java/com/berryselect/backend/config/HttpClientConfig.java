@@ -1,15 +1,119 @@
 package com.berryselect.backend.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 API 호출용 RestTemplate (OpenAI, 카카오 메시지)
+ * - Apache HttpClient 5 커넥션 풀: 전체/호스트별 커넥션 수 제한
+ * - 연결/응답/풀 대기 타임아웃, 호스트별 응답 타임아웃
+ * - 호스트별 동시 호출 벌크헤드 (OutboundBulkheadInterceptor)
+ * - 지표: http.client.requests (RestTemplateBuilder 기본, client.name=호스트),
+ *         httpcomponents.httpclient.pool.* (풀 사용량), http.client.bulkhead.*
+ */
 @Configuration
 public class HttpClientConfig {
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager outboundConnectionManager(
+            OutboundHttpProperties props, ObjectProvider<MeterRegistry> meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(props.getMaxTotal())
+                .setMaxConnPerRoute(props.getDefaultMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout(props.getConnectTimeout()))
+                        .setSocketTimeout(timeout(props.getResponseTimeout()))
+                        .build())
+                .build();
+
+        // 업스트림별 커넥션 수 (기본 https, 443)
+        for (OutboundHttpProperties.Upstream upstream : props.getUpstreams().values()) {
+            connectionManager.setMaxPerRoute(upstreamRoute(upstream), upstream.getMaxPerRoute());
+        }
+
+        meterRegistry.ifAvailable(registry ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "outbound").bindTo(registry));
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundHttpClient(
+            PoolingHttpClientConnectionManager outboundConnectionManager, OutboundHttpProperties props) {
+        return HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager)
+                .setDefaultRequestConfig(requestConfig(props, props.getResponseTimeout()))
+                .evictExpiredConnections()
+                .evictIdleConnections(Timeout.ofSeconds(30))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     CloseableHttpClient outboundHttpClient,
+                                     OutboundHttpProperties props,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        // 호스트별 응답 타임아웃 (등록되지 않은 호스트는 기본 RequestConfig)
+        Map<String, RequestConfig> configByHost = new HashMap<>();
+        for (OutboundHttpProperties.Upstream upstream : props.getUpstreams().values()) {
+            if (upstream.getResponseTimeout() != null) {
+                configByHost.put(upstream.getHost().toLowerCase(), requestConfig(props, upstream.getResponseTimeout()));
+            }
+        }
+
+        HttpComponentsClientHttpRequestFactory requestFactory =
+                new HttpComponentsClientHttpRequestFactory(outboundHttpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            RequestConfig config = uri.getHost() != null ? configByHost.get(uri.getHost().toLowerCase()) : null;
+            if (config == null) {
+                return null;
+            }
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(config);
+            return context;
+        });
+
+        return builder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(new OutboundBulkheadInterceptor(props, meterRegistry.getIfAvailable()))
+                .build();
+    }
+
+    /**
+     * 업스트림 호스트로 가는 https 직접 연결 route
+     * - 클라이언트가 https 대상에 대해 계획하는 route와 같아야 setMaxPerRoute가 적용됨 (secure=true 포함, HttpRoute.equals 비교 대상)
+     */
+    static HttpRoute upstreamRoute(OutboundHttpProperties.Upstream upstream) {
+        return new HttpRoute(new HttpHost("https", upstream.getHost(), 443), null, true);
+    }
+
+    private static RequestConfig requestConfig(OutboundHttpProperties props, Duration responseTimeout) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(timeout(props.getConnectionRequestTimeout()))
+                .setResponseTimeout(timeout(responseTimeout))
+                .build();
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
     }
 }
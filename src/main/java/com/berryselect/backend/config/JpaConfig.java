@@ -1,5 +1,7 @@
 package com.berryselect.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -11,8 +13,22 @@ import java.util.Optional;
 @EnableJpaAuditing
 public class JpaConfig {
 
+    @Value("${berryselect.jpa.batch-size:50}")
+    private int jdbcBatchSize;
+
     @Bean
     public AuditorAware<String> auditorAware() {
         return () -> Optional.of("system");
     }
+
+    // 추천 옵션/아이템처럼 여러 행을 한 번에 저장하는 경우 JDBC 배치 INSERT 사용
+    // (application 설정에 값이 있으면 그 값을 우선)
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", jdbcBatchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
 }
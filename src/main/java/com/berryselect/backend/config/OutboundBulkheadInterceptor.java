@@ -0,0 +1,89 @@
+package com.berryselect.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대상 호스트별 동시 호출 수 제한 (벌크헤드)
+ * - 한 업스트림이 느려져도 그 호스트로 가는 호출만 한도까지 쌓이고, 나머지는 즉시 실패
+ * - 요청 스레드가 외부 응답을 무한정 기다리며 쌓이지 않도록 함
+ * - 지표: http.client.bulkhead.in_flight (게이지), http.client.bulkhead.rejected (카운터), 태그 upstream
+ */
+@Slf4j
+public class OutboundBulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+    private final OutboundHttpProperties props;
+    private final MeterRegistry meterRegistry; // 없으면 지표 미등록
+    private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    public OutboundBulkheadInterceptor(OutboundHttpProperties props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        String host = request.getURI().getHost();
+        Compartment compartment = compartments.computeIfAbsent(host != null ? host : "unknown", this::create);
+
+        boolean acquired;
+        try {
+            acquired = compartment.permits.tryAcquire(props.getBulkheadWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("외부 호출 대기 중 인터럽트 - " + compartment.upstream);
+        }
+        if (!acquired) {
+            if (compartment.rejected != null) compartment.rejected.increment();
+            log.warn("외부 호출 동시 한도 초과 - upstream: {}, limit: {}", compartment.upstream, compartment.limit);
+            throw new ResourceAccessException("외부 호출 동시 한도 초과 - " + compartment.upstream);
+        }
+
+        try {
+            return execution.execute(request, body);
+        } finally {
+            compartment.permits.release();
+        }
+    }
+
+    private Compartment create(String host) {
+        String upstream = host;
+        int limit = props.getDefaultMaxConcurrent();
+        for (Map.Entry<String, OutboundHttpProperties.Upstream> e : props.getUpstreams().entrySet()) {
+            if (host.equalsIgnoreCase(e.getValue().getHost())) {
+                upstream = e.getKey();
+                limit = e.getValue().getMaxConcurrent();
+                break;
+            }
+        }
+
+        int maxConcurrent = limit;
+        Semaphore permits = new Semaphore(maxConcurrent);
+        Counter rejected = null;
+        if (meterRegistry != null) {
+            Gauge.builder("http.client.bulkhead.in_flight", permits, p -> maxConcurrent - p.availablePermits())
+                    .tag("upstream", upstream)
+                    .register(meterRegistry);
+            rejected = Counter.builder("http.client.bulkhead.rejected")
+                    .tag("upstream", upstream)
+                    .register(meterRegistry);
+        }
+        return new Compartment(upstream, maxConcurrent, permits, rejected);
+    }
+
+    private record Compartment(String upstream, int limit, Semaphore permits, Counter rejected) {}
+}
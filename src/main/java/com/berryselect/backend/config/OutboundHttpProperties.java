@@ -0,0 +1,58 @@
+package com.berryselect.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 호출(RestTemplate) 설정
+ * - 공통: 연결/응답/커넥션 대기 타임아웃, 전체 풀 크기
+ * - upstreams: 대상 호스트별 커넥션 수, 동시 호출 수(벌크헤드), 응답 타임아웃
+ * - 등록되지 않은 호스트는 default-* 값 사용
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "http.client")
+public class OutboundHttpProperties {
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration responseTimeout = Duration.ofSeconds(5);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1); // 풀에서 커넥션을 기다리는 최대 시간
+    private Duration bulkheadWait = Duration.ofMillis(200);            // 동시 호출 한도에 걸렸을 때 기다리는 최대 시간
+    private int maxTotal = 100;
+    private int defaultMaxPerRoute = 20;
+    private int defaultMaxConcurrent = 20;
+
+    private Map<String, Upstream> upstreams = defaultUpstreams();
+
+    @Getter @Setter
+    public static class Upstream {
+        private String host;
+        private int maxPerRoute = 20;
+        private int maxConcurrent = 20;
+        private Duration responseTimeout; // null이면 공통 responseTimeout
+
+        Upstream() {}
+
+        Upstream(String host, int maxConcurrent, Duration responseTimeout) {
+            this.host = host;
+            this.maxPerRoute = maxConcurrent;
+            this.maxConcurrent = maxConcurrent;
+            this.responseTimeout = responseTimeout;
+        }
+    }
+
+    private static Map<String, Upstream> defaultUpstreams() {
+        Map<String, Upstream> upstreams = new LinkedHashMap<>();
+        // AI 분석은 응답 생성이 느리므로 타임아웃을 길게, 동시 호출은 작게
+        upstreams.put("openai", new Upstream("api.openai.com", 8, Duration.ofSeconds(30)));
+        upstreams.put("kakao-api", new Upstream("kapi.kakao.com", 20, Duration.ofSeconds(5)));
+        upstreams.put("kakao-auth", new Upstream("kauth.kakao.com", 10, Duration.ofSeconds(5)));
+        return upstreams;
+    }
+}
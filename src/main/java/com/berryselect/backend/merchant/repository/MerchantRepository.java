@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -31,4 +32,13 @@ public interface MerchantRepository extends JpaRepository<Merchant, Long> {
             @Param("lastId") Long lastId,
             Pageable pageable
     );
+
+    // 거래 내역 표시용 가맹점 + 브랜드 일괄 조회
+    @Query("""
+        SELECT m
+        FROM Merchant m
+        LEFT JOIN FETCH m.brand b
+        WHERE m.id IN :ids
+    """)
+    List<Merchant> findAllWithBrandByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -9,7 +9,17 @@ import java.time.LocalDateTime;
 //Notification Entity (내부 로직용)
 
 @Entity
-@Table(name = "notifications")
+@Table(
+        name = "notifications",
+        indexes = {
+                // 발송 큐 조회 (상태별 오래된 순)
+                @Index(name = "idx_notifications_dispatch", columnList = "status, notification_id"),
+                // 재시도 시각이 된 실패 알림 조회
+                @Index(name = "idx_notifications_retry", columnList = "status, next_attempt_at"),
+                // 발송 중 멈춘 알림 회수
+                @Index(name = "idx_notifications_sending", columnList = "status, updated_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,12 +50,17 @@ public class Notification {
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
+    @Builder.Default
     private NotificationStatus status = NotificationStatus.PENDING;
 
     @Column(name = "retries", nullable = false)
     @Builder.Default
     private Integer retries = 0;
 
+    // 다음 재시도 가능 시각 (FAILED 상태에서만 사용, 재시도 소진 시 null)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
@@ -6,6 +6,9 @@ public enum NotificationStatus {
     // 발송 대기
     PENDING("발송 대기", "PENDING"),
 
+    // 발송 중 (발송 워커가 가져간 상태)
+    SENDING("발송 중", "SENDING"),
+
     // 발송 완료
     SENT("발송 완료", "SENT"),
 
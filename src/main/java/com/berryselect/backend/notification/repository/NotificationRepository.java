@@ -1,16 +1,17 @@
 package com.berryselect.backend.notification.repository;
 
 import com.berryselect.backend.notification.domain.Notification;
-import com.berryselect.backend.notification.domain.NotificationStatus;
 import com.berryselect.backend.notification.domain.NotificationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -26,13 +27,114 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 사용자별 읽지 않은 알림 목록 조회
     List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
 
-    // 발송 실패한 알림 중 재시도 가능한 목록 조회
-    @Query("SELECT n FROM Notification n WHERE n.status = :status AND n.retries < 3")
-    List<Notification> findRetryableNotifications(@Param("status") NotificationStatus status);
-
     // 특정 기간 내 생성된 알림 조회
     List<Notification> findByCreatedAtBetweenOrderByCreatedAtDesc(LocalDateTime startDate, LocalDateTime endDate);
 
     // 사용자별 특정 타입 알림 조회
     List<Notification> findByUserIdAndNotificationTypeOrderByCreatedAtDesc(Long userId, NotificationType type);
+
+    /**
+     * 발송 대기(PENDING) 알림을 오래된 순으로 잠그며 조회 - idx_notifications_dispatch(status, notification_id) 범위
+     * - SKIP LOCKED: 다른 인스턴스가 가져가는 중인 행은 건너뛰어 여러 노드가 중복 발송 없이 나눠 처리
+     */
+    @Query(value = """
+      SELECT * FROM notifications
+       WHERE status = 'PENDING'
+       ORDER BY notification_id
+       LIMIT :limit
+       FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Notification> lockPending(@Param("limit") int limit);
+
+    /**
+     * 재시도 시각이 된 실패 알림을 재시도 시각 순으로 잠그며 조회 - idx_notifications_retry(status, next_attempt_at) 범위
+     * - 재시도 횟수를 모두 쓴 알림은 next_attempt_at = NULL 이라 범위에 들어오지 않음
+     */
+    @Query(value = """
+      SELECT * FROM notifications
+       WHERE status = 'FAILED'
+         AND next_attempt_at <= :now
+       ORDER BY next_attempt_at
+       LIMIT :limit
+       FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Notification> lockDueRetries(@Param("limit") int limit, @Param("now") LocalDateTime now);
+
+    /**
+     * SENDING 상태로 staleBefore 이전부터 멈춰 있는 알림 (발송 중 인스턴스 종료 등)
+     * - idx_notifications_sending(status, updated_at) 범위
+     */
+    @Query(value = """
+      SELECT * FROM notifications
+       WHERE status = 'SENDING'
+         AND updated_at < :staleBefore
+       ORDER BY updated_at
+       LIMIT :limit
+       FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Notification> lockStaleSending(@Param("limit") int limit, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("""
+      UPDATE Notification n
+         SET n.status = com.berryselect.backend.notification.domain.NotificationStatus.SENDING,
+             n.updatedAt = :now
+       WHERE n.id IN :ids
+    """)
+    int markSending(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 발송 성공 일괄 반영 (같은 결과 코드끼리)
+    @Modifying
+    @Query("""
+      UPDATE Notification n
+         SET n.status = com.berryselect.backend.notification.domain.NotificationStatus.SENT,
+             n.kakaoResultCode = :resultCode,
+             n.sentAt = :now,
+             n.updatedAt = :now
+       WHERE n.id IN :ids
+    """)
+    int markSent(@Param("ids") Collection<Long> ids,
+                 @Param("resultCode") String resultCode,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * 발송 실패 일괄 반영 (같은 오류 메시지끼리)
+     * - 다음 재시도 시각: now + min(maxDelay, baseDelay × 2^이전 재시도 횟수) × (1 + RAND() × jitter)
+     *   행마다 RAND()를 따로 계산하므로 같은 시각에 실패한 알림도 재시도 시각이 흩어짐
+     * - 이번 실패로 재시도 횟수를 모두 쓰면 next_attempt_at = NULL (더 이상 재시도 안 함)
+     * - MySQL은 SET 대입을 왼쪽부터 적용하므로 next_attempt_at을 retries 증가 전에 계산
+     */
+    @Modifying
+    @Query(value = """
+      UPDATE notifications
+         SET next_attempt_at = CASE
+                 WHEN retries + 1 >= :maxAttempts THEN NULL
+                 ELSE TIMESTAMPADD(SECOND, FLOOR(
+                          LEAST(:maxDelaySeconds, :baseDelaySeconds * POWER(2, retries))
+                          * (1 + RAND() * :jitter)), CAST(:now AS DATETIME(6)))
+             END,
+             status        = 'FAILED',
+             error_message = :errorMessage,
+             retries       = retries + 1,
+             updated_at    = :now
+       WHERE notification_id IN (:ids)
+    """, nativeQuery = true)
+    int markFailed(@Param("ids") Collection<Long> ids,
+                   @Param("errorMessage") String errorMessage,
+                   @Param("maxAttempts") int maxAttempts,
+                   @Param("baseDelaySeconds") long baseDelaySeconds,
+                   @Param("maxDelaySeconds") long maxDelaySeconds,
+                   @Param("jitter") double jitter,
+                   @Param("now") LocalDateTime now);
+
+    // 재시도 가능한 실패 알림을 즉시 재시도 대상으로 (수동 재시도)
+    @Modifying
+    @Query("""
+      UPDATE Notification n
+         SET n.nextAttemptAt = :now,
+             n.updatedAt = :now
+       WHERE n.status = com.berryselect.backend.notification.domain.NotificationStatus.FAILED
+         AND n.retries < :maxAttempts
+    """)
+    int retryNow(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now);
 }
@@ -13,9 +13,9 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +27,7 @@ public class KakaoNotificationAdapter {
     private final UserRepository userRepository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final KakaoTokenCache kakaoTokenCache;
 
     @Value("${kakao.message.api.url:https://kapi.kakao.com}")
     private String kakaoApiUrl;
@@ -50,23 +51,19 @@ public class KakaoNotificationAdapter {
             return "DISABLED";
         }
 
+        Long userId = notification.getUser().getId();
         try {
-            // 해당 사용자의 카카오 토큰 조회
-            String userKakaoToken = getUserKakaoToken(notification.getUser().getId());
+            // 해당 사용자의 카카오 토큰 (캐시, 만료 임박 시 갱신)
+            String userKakaoToken = kakaoTokenCache.getAccessToken(notification.getUser());
 
-            if(userKakaoToken == null || userKakaoToken.trim().isEmpty()) {
-                log.warn("해당 사용자의 카카오 토큰이 없습니다. - userId: {}", notification.getUser().getId());
-                throw new ApiException("KAKAO_TOKEN_MISSING", "사용자의 카카오 엑세스 토큰이 없습니다.");
-            }
-
-            log.info("카카오톡 메시지 발송 시작 - notificationId: {}, userId: {}", notification.getId(), notification.getUser().getId());
+            log.debug("카카오톡 메시지 발송 시작 - notificationId: {}, userId: {}", notification.getId(), userId);
 
             // 해당 사용자의 카카오 토큰으로 메시지 발송
-            String resultCode = sendKakaoMessageWithUserToken(notification, userKakaoToken);
-
-            log.info("카카오톡 메시지 발송 성공 - notificationId: {}, resultCode: {}", notification.getId(), resultCode);
-
-            return resultCode;
+            return sendKakaoMessageWithUserToken(notification, userKakaoToken);
+        } catch (HttpClientErrorException.Unauthorized e) {
+            // 캐시된 토큰이 거부됨 (재로그인/연결 해제 등) → 다음 시도에서 다시 조회
+            kakaoTokenCache.invalidate(userId);
+            throw new ApiException("KAKAO_TOKEN_INVALID", "카카오 토큰이 유효하지 않습니다.", e);
         } catch (ApiException e) {
             throw e;
         } catch (Exception e) {
@@ -75,31 +72,11 @@ public class KakaoNotificationAdapter {
         }
     }
 
-    // 사용자별 카카오 토큰 조회
+    // 사용자별 카카오 토큰 조회 (알림 없이 사용자 ID만 있는 경우)
     private String getUserKakaoToken(Long userId) {
-        try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ApiException("USER_NOT_FOUND", "사용자를 찾을 수 없습니다."));
-
-            // 디버깅 로그 추가
-            log.info("=== 토큰 만료 체크 시작 ===");
-            log.info("토큰 만료시간: {}", user.getTokenExpiresAt());
-            log.info("현재 시간: {}", Instant.now());
-
-            // 토큰 만료 확인
-            if(user.getTokenExpiresAt() != null &&
-                user.getTokenExpiresAt().isBefore(Instant.now())) {
-                log.warn("사용자의 카카오 토큰이 만료됨 - userId: {}", userId);
-                // TODO : refresh_token으로 갱신 로직 구현
-                throw new ApiException("KAKAO_TOKEN_EXPIRED", "카카오 토큰이 만료되었습니다.");
-            }
-            return user.getAccessToken();
-        } catch (ApiException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("사용자 카카오 토큰 조회 실패 - userId: {}", userId, e);
-            throw new ApiException("TOKEN_FETCH_FAILED", "카카오 토큰 조회에 실패했습니다.");
-        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ApiException("USER_NOT_FOUND", "사용자를 찾을 수 없습니다."));
+        return kakaoTokenCache.getAccessToken(user);
     }
 
     // 실제 카카오 메시지 API 호출
@@ -131,12 +108,12 @@ public class KakaoNotificationAdapter {
             // 응답 처리
             if(response.getStatusCode() == HttpStatus.OK) {
                 Map<String, Object> responseBody = response.getBody();
-                log.info("카카오 API 응답: {}", responseBody);
+                log.debug("카카오 API 응답: {}", responseBody);
                 return "SUCCESS";
             } else {
                 throw new ApiException("KAKAO_API_ERROR", "카카오 API 응답 실패 - HTTP" + response.getStatusCode());
             }
-        } catch (ApiException e) {
+        } catch (ApiException | HttpClientErrorException.Unauthorized e) {
             throw e;
         } catch (Exception e) {
             log.error("카카오 API 호출 중 오류 발생", e);
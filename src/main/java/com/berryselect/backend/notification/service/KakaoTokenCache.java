@@ -0,0 +1,169 @@
+package com.berryselect.backend.notification.service;
+
+import com.berryselect.backend.auth.domain.User;
+import com.berryselect.backend.auth.dto.kakao.KakaoTokenResponse;
+import com.berryselect.backend.auth.repository.UserRepository;
+import com.berryselect.backend.auth.service.KakaoOauthClient;
+import com.berryselect.backend.common.exception.ApiException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 사용자별 카카오 access_token 캐시
+ * - 만료 refresh-skew 전까지만 캐시 (만료 시각이 없으면 max-ttl)
+ * - 캐시가 비면 알림에 딸린 User에서 읽고, 만료 임박이면 refresh_token으로 미리 갱신 후 저장
+ * - 같은 사용자 동시 조회/갱신은 하나의 future를 공유해 카카오 토큰 API는 한 번만 호출
+ */
+@Component
+@Slf4j
+public class KakaoTokenCache {
+
+    private final UserRepository userRepository;
+    private final KakaoOauthClient kakaoOauthClient;
+    private final Duration refreshSkew;
+    private final AsyncCache<Long, KakaoToken> cache;
+
+    public KakaoTokenCache(
+            UserRepository userRepository,
+            KakaoOauthClient kakaoOauthClient,
+            @Value("${kakao.token.refresh-skew-seconds:300}") long refreshSkewSeconds,
+            @Value("${kakao.token.cache.max-size:10000}") long maxSize,
+            @Value("${kakao.token.cache.max-ttl-seconds:3600}") long maxTtlSeconds) {
+        this.userRepository = userRepository;
+        this.kakaoOauthClient = kakaoOauthClient;
+        this.refreshSkew = Duration.ofSeconds(refreshSkewSeconds);
+
+        Duration maxTtl = Duration.ofSeconds(maxTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((Long userId, KakaoToken token) -> ttl(token, maxTtl)))
+                .buildAsync();
+    }
+
+    /**
+     * 사용자의 유효한 access_token
+     * @param user 알림에 딸린 사용자 (지연 로딩 프록시면 캐시 미스 시에만 조회)
+     * @throws ApiException 토큰이 없거나 만료됐고 갱신도 실패한 경우
+     */
+    public String getAccessToken(User user) {
+        Long userId = user.getId();
+        CompletableFuture<KakaoToken> created = new CompletableFuture<>();
+        CompletableFuture<KakaoToken> future = cache.get(userId, (k, executor) -> created);
+
+        // 이 스레드가 등록한 future면 직접 조회/갱신 (실패한 future는 캐시에서 자동 제거)
+        if (future == created) {
+            try {
+                created.complete(load(user));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return future.join().accessToken();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /** 카카오 API가 토큰을 거부한 경우 등 캐시된 토큰 폐기 */
+    public void invalidate(Long userId) {
+        cache.synchronous().invalidate(userId);
+    }
+
+    private KakaoToken load(User user) {
+        User current = Hibernate.isInitialized(user) ? user : findUser(user.getId());
+        if (isFresh(current)) {
+            return KakaoToken.of(current);
+        }
+
+        // 알림 조회 시점 이후 다른 요청/노드가 이미 갱신했을 수 있으므로 최신 값 확인
+        if (current == user) {
+            current = findUser(user.getId());
+            if (isFresh(current)) {
+                return KakaoToken.of(current);
+            }
+        }
+
+        if (current.getRefreshToken() == null || current.getRefreshToken().isBlank()) {
+            if (isUsable(current)) return KakaoToken.of(current);
+            if (!hasAccessToken(current)) {
+                throw new ApiException("KAKAO_TOKEN_MISSING", "사용자의 카카오 엑세스 토큰이 없습니다.");
+            }
+            throw new ApiException("KAKAO_TOKEN_EXPIRED", "카카오 토큰이 만료되었습니다.");
+        }
+
+        try {
+            return refresh(current);
+        } catch (RuntimeException e) {
+            // 갱신 실패여도 아직 만료 전이면 기존 토큰 사용 (만료 임박이라 캐시에는 거의 남지 않음)
+            if (isUsable(current)) {
+                log.warn("카카오 토큰 갱신 실패, 기존 토큰 사용 - userId: {}", current.getId(), e);
+                return KakaoToken.of(current);
+            }
+            log.warn("카카오 토큰 갱신 실패 - userId: {}", current.getId(), e);
+            throw new ApiException("KAKAO_TOKEN_EXPIRED", "카카오 토큰이 만료되었고 갱신에 실패했습니다.", e);
+        }
+    }
+
+    private KakaoToken refresh(User user) {
+        KakaoTokenResponse response = kakaoOauthClient.refreshAccessToken(user.getRefreshToken());
+        if (response == null || response.getAccessToken() == null) {
+            throw new IllegalStateException("카카오 토큰 갱신 응답에 access_token이 없습니다.");
+        }
+
+        Instant expiresAt = response.getExpiresIn() != null
+                ? Instant.now().plusSeconds(response.getExpiresIn())
+                : null;
+        userRepository.updateKakaoToken(user.getId(), response.getAccessToken(), response.getRefreshToken(), expiresAt);
+
+        log.info("카카오 토큰 갱신 - userId: {}, expiresAt: {}", user.getId(), expiresAt);
+        return new KakaoToken(response.getAccessToken(), expiresAt);
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new ApiException("USER_NOT_FOUND", "사용자를 찾을 수 없습니다."));
+    }
+
+    // 만료까지 refresh-skew 이상 남음 → 갱신 없이 사용
+    private boolean isFresh(User user) {
+        return hasAccessToken(user)
+                && (user.getTokenExpiresAt() == null
+                    || user.getTokenExpiresAt().isAfter(Instant.now().plus(refreshSkew)));
+    }
+
+    // 만료 전
+    private boolean isUsable(User user) {
+        return hasAccessToken(user)
+                && (user.getTokenExpiresAt() == null || user.getTokenExpiresAt().isAfter(Instant.now()));
+    }
+
+    private static boolean hasAccessToken(User user) {
+        return user.getAccessToken() != null && !user.getAccessToken().isBlank();
+    }
+
+    private Duration ttl(KakaoToken token, Duration maxTtl) {
+        if (token.expiresAt() == null) return maxTtl;
+        Duration untilRefresh = Duration.between(Instant.now(), token.expiresAt().minus(refreshSkew));
+        if (untilRefresh.isNegative()) return Duration.ZERO;
+        return untilRefresh.compareTo(maxTtl) < 0 ? untilRefresh : maxTtl;
+    }
+
+    private record KakaoToken(String accessToken, Instant expiresAt) {
+        static KakaoToken of(User user) {
+            return new KakaoToken(user.getAccessToken(), user.getTokenExpiresAt());
+        }
+    }
+}
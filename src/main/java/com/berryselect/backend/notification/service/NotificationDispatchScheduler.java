@@ -0,0 +1,109 @@
+package com.berryselect.backend.notification.service;
+
+import com.berryselect.backend.notification.domain.Notification;
+import com.berryselect.backend.notification.service.NotificationDispatchService.DispatchResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 발송 큐 주기 처리
+ * - 매 주기: 이전 주기까지 끝난 발송 결과 일괄 반영 → 워커 여유분만큼 새 알림 가져와 워커 풀에 제출
+ * - 백프레셔: 진행 중 발송 수가 워커 수 + 대기열 크기를 넘지 않도록 가져오는 양을 제한
+ * - 속도 제한: 주기당 가져오는 양을 rate-per-second × 주기로 제한
+ */
+@Component
+@Slf4j
+public class NotificationDispatchScheduler {
+
+    private final NotificationDispatchService dispatchService;
+    private final ThreadPoolTaskExecutor notificationDispatchExecutor;
+
+    private final Queue<DispatchResult> results = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int maxInFlight;
+    private final int maxPerPoll;
+
+    @Value("${notification.dispatch.enabled:true}")
+    private boolean enabled;
+
+    public NotificationDispatchScheduler(
+            NotificationDispatchService dispatchService,
+            ThreadPoolTaskExecutor notificationDispatchExecutor,
+            @Value("${notification.dispatch.rate-per-second:20}") int ratePerSecond,
+            @Value("${notification.dispatch.poll-interval-ms:1000}") long pollIntervalMs) {
+        this.dispatchService = dispatchService;
+        this.notificationDispatchExecutor = notificationDispatchExecutor;
+        this.maxInFlight = notificationDispatchExecutor.getMaxPoolSize() + notificationDispatchExecutor.getQueueCapacity();
+        this.maxPerPoll = (int) Math.max(1, ratePerSecond * pollIntervalMs / 1000);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.dispatch.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) return;
+
+        try {
+            flushResults();
+
+            int capacity = Math.min(maxInFlight - inFlight.get(), maxPerPoll);
+            for (Notification notification : dispatchService.claim(capacity)) {
+                submit(notification);
+            }
+        } catch (Exception e) {
+            log.error("알림 발송 큐 처리 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    private void submit(Notification notification) {
+        inFlight.incrementAndGet();
+        try {
+            notificationDispatchExecutor.execute(() -> {
+                try {
+                    results.add(dispatchService.send(notification));
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            results.add(DispatchResult.failed(notification.getId(), "발송 대기열 초과"));
+        }
+    }
+
+    private void flushResults() {
+        List<DispatchResult> batch = new ArrayList<>();
+        DispatchResult result;
+        while ((result = results.poll()) != null) {
+            batch.add(result);
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            dispatchService.applyResults(batch);
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            results.addAll(batch);
+            throw e;
+        }
+    }
+
+    // 종료 전 남은 결과 반영 (반영 못 한 알림은 SENDING 타임아웃 후 다시 발송됨)
+    @PreDestroy
+    public void shutdown() {
+        try {
+            flushResults();
+        } catch (Exception e) {
+            log.warn("종료 중 알림 발송 결과 반영 실패: {}", e.getMessage());
+        }
+    }
+}
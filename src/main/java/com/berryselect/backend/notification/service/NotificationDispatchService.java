@@ -0,0 +1,129 @@
+package com.berryselect.backend.notification.service;
+
+import com.berryselect.backend.notification.domain.Notification;
+import com.berryselect.backend.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 알림 발송 큐 처리
+ * - claim: 발송 대기 알림을 잠가서 SENDING으로 표시 (짧은 트랜잭션)
+ * - send: 워커 스레드에서 카카오 API 호출 (트랜잭션/DB 커넥션 점유 없음)
+ * - applyResults: 모인 발송 결과를 상태/결과 코드별로 묶어 일괄 반영
+ * - 실패 알림은 지수 백오프 + 지터로 next_attempt_at을 잡아 두고, 시각이 되면 claim에서 다시 가져감
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatchService {
+
+    private final NotificationRepository notificationRepository;
+    private final KakaoNotificationAdapter kakaoNotificationAdapter;
+
+    // SENDING 상태로 이 시간 이상 남아 있으면 발송 중 종료된 것으로 보고 다시 가져감
+    @Value("${notification.dispatch.sending-timeout-seconds:300}")
+    private long sendingTimeoutSeconds;
+
+    // 최대 발송 시도 횟수 (이만큼 실패하면 FAILED로 남김)
+    @Value("${notification.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    // 재시도 간격: min(max-delay, base-delay × 2^실패 횟수) × (1 + 0~jitter)
+    @Value("${notification.retry.base-delay-seconds:30}")
+    private long baseDelaySeconds;
+
+    @Value("${notification.retry.max-delay-seconds:3600}")
+    private long maxDelaySeconds;
+
+    @Value("${notification.retry.jitter:0.2}")
+    private double jitter;
+
+    /**
+     * 발송할 알림 최대 limit건 가져오기
+     * - 상태별로 각자의 인덱스 범위만 잠금: 멈춘 SENDING → 재시도 시각이 된 FAILED → PENDING 순으로 남은 자리 채움
+     *   (PENDING이 계속 쌓여도 재시도/회수 대상이 밀리지 않음)
+     */
+    @Transactional
+    public List<Notification> claim(int limit) {
+        if (limit <= 0) return List.of();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> batch = new ArrayList<>(
+                notificationRepository.lockStaleSending(limit, now.minusSeconds(sendingTimeoutSeconds)));
+        if (batch.size() < limit) {
+            batch.addAll(notificationRepository.lockDueRetries(limit - batch.size(), now));
+        }
+        if (batch.size() < limit) {
+            batch.addAll(notificationRepository.lockPending(limit - batch.size()));
+        }
+        if (batch.isEmpty()) return batch;
+
+        notificationRepository.markSending(batch.stream().map(Notification::getId).toList(), now);
+        return batch;
+    }
+
+    /**
+     * 알림 1건 카카오 발송 (DB 반영은 applyResults에서 일괄 처리)
+     */
+    public DispatchResult send(Notification notification) {
+        try {
+            // 카카오 알림 발송
+            String resultCode = kakaoNotificationAdapter.sendNotification(notification);
+
+            log.info("카카오 알림 발송 성공 - notificationId: {}, resultCode: {}", notification.getId(), resultCode);
+            return DispatchResult.sent(notification.getId(), resultCode);
+        } catch (Exception e) {
+            log.error("카카오 알림 발송 실패 - notificationId: {}", notification.getId(), e);
+            return DispatchResult.failed(notification.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 발송 결과 일괄 반영
+     * - 성공은 결과 코드별, 실패는 오류 메시지별로 묶어 UPDATE 1회씩
+     */
+    @Transactional
+    public void applyResults(List<DispatchResult> results) {
+        if (results.isEmpty()) return;
+
+        Map<String, List<Long>> sentByCode = new HashMap<>();
+        Map<String, List<Long>> failedByError = new HashMap<>();
+        for (DispatchResult r : results) {
+            if (r.sent()) {
+                sentByCode.computeIfAbsent(r.resultCode(), k -> new ArrayList<>()).add(r.notificationId());
+            } else {
+                failedByError.computeIfAbsent(r.errorMessage(), k -> new ArrayList<>()).add(r.notificationId());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        sentByCode.forEach((code, ids) -> notificationRepository.markSent(ids, code, now));
+        failedByError.forEach((error, ids) -> notificationRepository.markFailed(
+                ids, error, maxAttempts, baseDelaySeconds, maxDelaySeconds, jitter, now));
+
+        log.debug("알림 발송 결과 반영 - 성공: {}건, 실패: {}건",
+                sentByCode.values().stream().mapToInt(List::size).sum(),
+                failedByError.values().stream().mapToInt(List::size).sum());
+    }
+
+    /**
+     * 발송 결과 1건
+     * @param resultCode 성공 시 카카오 결과 코드
+     * @param errorMessage 실패 시 오류 메시지
+     */
+    public record DispatchResult(Long notificationId, boolean sent, String resultCode, String errorMessage) {
+        static DispatchResult sent(Long notificationId, String resultCode) {
+            return new DispatchResult(notificationId, true, resultCode, null);
+        }
+
+        static DispatchResult failed(Long notificationId, String errorMessage) {
+            return new DispatchResult(notificationId, false, null, errorMessage);
+        }
+    }
+}
@@ -2,17 +2,21 @@ package com.berryselect.backend.notification.service;
 
 import com.berryselect.backend.auth.domain.User;
 import com.berryselect.backend.auth.repository.UserRepository;
-import com.berryselect.backend.wallet.domain.UserAsset;
+import com.berryselect.backend.common.service.SchedulerLockService;
 import com.berryselect.backend.wallet.repository.UserAssetRepository;
+import com.berryselect.backend.wallet.repository.UserAssetRepository.ExpiringGifticon;
 import com.berryselect.backend.budget.repository.MonthlyBudgetRepository;
 import com.berryselect.backend.transaction.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -29,56 +33,101 @@ public class NotificationSchedulerService {
     //private final MonthlyBudgetRepository monthlyBudgetRepository;
     private final TransactionRepository transactionRepository;
     private final NotificationService notificationService;
+    private final SchedulerLockService schedulerLockService;
 
     @Value("${notification.scheduler.enabled:true}")
     private boolean schedulerEnabled;
 
+    @Value("${notification.scheduler.gifticon-expiration.chunk-size:500}")
+    private int gifticonChunkSize;
+
+    // 사용자 ID 샤드 수 (1이면 인스턴스 1곳이 전체 처리, 2 이상이면 인스턴스들이 샤드를 나눠 병렬 처리)
+    @Value("${notification.scheduler.gifticon-expiration.shards:1}")
+    private int gifticonShards;
+
+    @Value("${notification.scheduler.gifticon-expiration.lock-at-most-seconds:3600}")
+    private long gifticonLockAtMostSeconds;
+
+    @Value("${notification.scheduler.gifticon-expiration.lock-at-least-seconds:300}")
+    private long gifticonLockAtLeastSeconds;
+
     /**
      * 매일 오전 9시에 기프티콘 만료 알림 체크
+     * - 1일/3일 후 만료 대상을 id 키셋 페이지로 나눠 읽고, 건마다 짧은 트랜잭션으로 알림 생성
+     * - 배치 전체를 감싸는 트랜잭션 없음 → 대상이 많아도 한 번에 메모리에 올리지 않음
+     * - scheduler_locks 임대로 인스턴스가 여러 대여도 샤드마다 1곳만 실행 (중복 알림 방지)
      */
     @Scheduled(cron = "${notification.scheduler.gifticon-expiration.cron:0 0 9 * * *}")
-    @Transactional(readOnly = false)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void checkGifticonExpiration() {
-        log.info("=== 기프티콘 만료 알림 배치 시작 ===");
+        if (!schedulerEnabled) return;
+
+        // 회차 = 실행 날짜 (하루 1회 cron, 끝난 샤드는 같은 날 다시 실행하지 않음)
+        int processed = schedulerLockService.runSharded("gifticon-expiration", LocalDate.now().toString(),
+                gifticonShards, Duration.ofSeconds(gifticonLockAtMostSeconds), Duration.ofSeconds(gifticonLockAtLeastSeconds),
+                shard -> notifyExpiringGifticons(shard, gifticonShards));
+        if (processed == 0) {
+            log.info("기프티콘 만료 알림 배치 - 다른 인스턴스가 실행 중이거나 완료하여 건너뜀");
+        }
+    }
+
+    // 샤드 1개 처리 (shardCount = 1 이면 전체)
+    private void notifyExpiringGifticons(int shard, int shardCount) {
+        log.info("=== 기프티콘 만료 알림 배치 시작 - shard: {}/{} ===", shard, shardCount);
 
         try {
-            // 1일 후 만료되는 기프티콘들 조회
-            LocalDate tomorrow = LocalDate.now().plusDays(1);
-            List<UserAsset> expiringGifticons = userAssetRepository
-                    .findExpiringGifticons(tomorrow);
-
-            log.info("만료 예정 기프티콘 {}개 발견", expiringGifticons.size());
-
-            for (UserAsset gifticon : expiringGifticons) {
-                try {
-                    sendGifticonExpirationNotification(gifticon, 1);
-                } catch (Exception e) {
-                    log.error("기프티콘 만료 알림 발송 실패 - assetId: {}, userId: {}",
-                            gifticon.getId(), gifticon.getUserId(), e);
-                }
-            }
+            LocalDate today = LocalDate.now();
+
+            // 1일 후 만료되는 기프티콘
+            notifyExpiringGifticons(today.plusDays(1), 1, shard, shardCount);
+
+            // 3일 후 만료되는 기프티콘 (3일 전 알림)
+            notifyExpiringGifticons(today.plusDays(3), 3, shard, shardCount);
 
-            // 3일 후 만료되는 기프티콘들도 체크 (3일 전 알림)
-            LocalDate threeDaysLater = LocalDate.now().plusDays(3);
-            List<UserAsset> threeDayWarning = userAssetRepository
-                    .findExpiringGifticons(threeDaysLater);
+            log.info("=== 기프티콘 만료 알림 배치 완료 - shard: {}/{} ===", shard, shardCount);
 
-            log.info("3일 후 만료 예정 기프티콘 {}개 발견", threeDayWarning.size());
+        } catch (Exception e) {
+            log.error("기프티콘 만료 알림 배치 실행 중 오류 발생 - shard: {}/{}", shard, shardCount, e);
+        }
+    }
 
-            for (UserAsset gifticon : threeDayWarning) {
-                try {
-                    sendGifticonExpirationNotification(gifticon, 3);
-                } catch (Exception e) {
-                    log.error("기프티콘 3일 전 알림 발송 실패 - assetId: {}, userId: {}",
-                            gifticon.getId(), gifticon.getUserId(), e);
-                }
+    private void notifyExpiringGifticons(LocalDate expirationDate, int daysLeft, int shard, int shardCount) {
+        long afterId = 0L;
+        int found = 0;
+        int sent = 0;
+
+        while (true) {
+            List<ExpiringGifticon> chunk = userAssetRepository.findExpiringGifticonPage(
+                    expirationDate, afterId, shard, shardCount, PageRequest.of(0, gifticonChunkSize));
+            if (chunk.isEmpty()) {
+                break;
             }
 
-            log.info("=== 기프티콘 만료 알림 배치 완료 ===");
+            found += chunk.size();
+            sent += sendGifticonExpireAlerts(chunk, daysLeft);
+            afterId = chunk.get(chunk.size() - 1).getId();
 
-        } catch (Exception e) {
-            log.error("기프티콘 만료 알림 배치 실행 중 오류 발생", e);
+            if (chunk.size() < gifticonChunkSize) {
+                break;
+            }
+        }
+
+        log.info("{}일 후 만료 예정 기프티콘 {}개 발견, {}건 발송", daysLeft, found, sent);
+    }
+
+    // 건마다 별도 트랜잭션 (이 클래스의 배치 메서드는 트랜잭션 밖에서 실행) → 한 건의 저장 실패가 다른 건을 롤백시키지 않음
+    private int sendGifticonExpireAlerts(List<ExpiringGifticon> gifticons, int daysLeft) {
+        int sent = 0;
+        for (ExpiringGifticon gifticon : gifticons) {
+            try {
+                notificationService.sendGifticonExpireAlert(gifticon.getUserId(), gifticon.getProductName(), daysLeft);
+                sent++;
+            } catch (Exception e) {
+                log.error("기프티콘 만료 알림 발송 실패 - assetId: {}, userId: {}",
+                        gifticon.getId(), gifticon.getUserId(), e);
+            }
         }
+        return sent;
     }
 
     /**
@@ -143,16 +192,6 @@ public class NotificationSchedulerService {
 //        }
 //    }
 
-    private void sendGifticonExpirationNotification(UserAsset gifticon, int daysLeft) {
-        String gifticonName = gifticon.getProduct().getName();
-        Long userId = gifticon.getUserId();
-
-        notificationService.sendGifticonExpireAlert(userId, gifticonName, daysLeft);
-
-        log.info("기프티콘 만료 알림 발송 완료 - userId: {}, gifticon: {}, daysLeft: {}",
-                userId, gifticonName, daysLeft);
-    }
-
 //    private void checkUserBudgetStatus(Long userId, int budgetTarget, String yearMonth) {
 //        // 이번 달 총 지출 계산
 //        Long totalSpent = transactionRepository.getTotalSpentByUserAndMonth(userId, yearMonth);
@@ -188,10 +227,11 @@ public class NotificationSchedulerService {
     /**
      * 수동 실행용 메서드들 (테스트용!!!)
      */
-    @Transactional(readOnly = false)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void runGifticonExpirationCheck() {
         log.info("수동 실행: 기프티콘 만료 체크");
-        checkGifticonExpiration();
+        // 임대 없이 현재 인스턴스에서 전체 처리
+        notifyExpiringGifticons(0, 1);
     }
 
 //    public void runBudgetExceededCheck() {
@@ -9,12 +9,13 @@ import com.berryselect.backend.notification.domain.NotificationType;
 import com.berryselect.backend.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @Service
 @Transactional(readOnly = true)
@@ -23,7 +24,9 @@ import java.util.List;
 public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-    private final KakaoNotificationAdapter kakaoNotificationAdapter;
+
+    @Value("${notification.retry.max-attempts:3}")
+    private int maxAttempts;
 
     // 사용자별 알림 목록 조회
     public Page<Notification> getUserNotifications(Long userId, Pageable pageable) {
@@ -59,22 +62,20 @@ public class NotificationService {
     // 알림 생성 및 발송
     @Transactional
     public Notification createAndSendNotification(Long userId, NotificationType type, String title, String body) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("사용자를 찾을 수 없습니다."));
+        // 사용자 조회 없이 FK 참조만 사용 (배치에서 건마다 users SELECT가 나가지 않도록)
+        User user = userRepository.getReferenceById(userId);
 
-        // 알림 생성
+        // 알림 생성 (PENDING) - 카카오 발송은 NotificationDispatchScheduler가 커밋 후 비동기로 처리
         Notification notification = Notification.builder()
                 .user(user)
                 .notificationType(type)
                 .title(title)
                 .body(body)
+                .status(NotificationStatus.PENDING)
                 .build();
 
         notification = notificationRepository.save(notification);
 
-        // 비동기로 카카오 알림 발송 시도
-        sendKakaoNotificationAsync(notification);
-
         log.info("알림 생성 완료 - notificationId: {}, userId: {}, type: {}",
                 notification.getId(), userId, type);
 
@@ -108,49 +109,11 @@ public class NotificationService {
         createAndSendNotification(userId, NotificationType.GIFTICON_EXPIRE, title, body);
     }
 
-    // 비동기 카카오 알림 발송
-    private void sendKakaoNotificationAsync(Notification notification) {
-        try {
-            if (!isKakaoNotificationEnabled(notification.getUser())) {
-                log.info("카카오 알림이 비활성화된 사용자 - userId: {}", notification.getUser().getId());
-                notification.markAsSent();
-                return;
-            }
-
-            // 카카오 알림 발송
-            String resultCode = kakaoNotificationAdapter.sendNotification(notification);
-
-            // 발송 성공 처리
-            notification.setKakaoResult(resultCode);
-            notification.markAsSent();
-
-            log.info("카카오 알림 발송 성공 - notificationId: {}, resultCode: {}", notification.getId(), resultCode);
-        } catch (Exception e) {
-            // 발송 실패 처리
-            notification.markAsFailed(e.getMessage());
-            log.error("카카오 알림 발송 실패 - notificationId: {}", notification.getId(), e);
-        }
-    }
-
-    // 사용자 카카오 알림 설정 확인
-    private boolean isKakaoNotificationEnabled(User user) {
-        // UserSettings에서 카카오 알림 설정 확인
-        // TODO : UserSettingsService와 연동
-
-        return true; // 임시로 true 반환
-    }
-
-    // 실패한 알림 재시도
+    // 실패한 알림 즉시 재시도 (백오프 대기 중인 알림의 재시도 시각을 지금으로 당김 → 발송 큐에서 처리)
     @Transactional
     public void retryFailedNotifications() {
-        List<Notification> retryableNotifications = notificationRepository
-                .findRetryableNotifications(NotificationStatus.FAILED);
-
-        for(Notification notification : retryableNotifications) {
-            log.info("알림 재시도 - notificationId: {}, retryCount: {}",
-                    notification.getId(), notification.getRetries());
-            sendKakaoNotificationAsync(notification);
-        }
+        int requeued = notificationRepository.retryNow(maxAttempts, LocalDateTime.now());
+        log.info("알림 재시도 대기 등록 - {}건", requeued);
     }
 
 }
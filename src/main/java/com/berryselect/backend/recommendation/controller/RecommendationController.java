@@ -25,6 +25,29 @@ public class RecommendationController {
         return recommendationService.createSession(req, authUser.getId());
     }
 
+    // 미리보기 (세션 저장 없음)
+    @PostMapping("/preview")
+    public RecommendationResponse preview(@RequestBody RecommendationRequest req,
+                                          @AuthenticationPrincipal AuthUser authUser) {
+        if (authUser == null) {
+            throw new AccessDeniedException("인증이 필요합니다.");
+        }
+        return recommendationService.previewSession(req, authUser.getId());
+    }
+
+    // 미리보기 옵션 선택 (미리보기 응답의 fingerprint) → 이 시점에 세션 저장 + 선택 확정
+    @PostMapping("/preview/options/{fingerprint}/choose")
+    public RecommendationResponse choosePreviewOption(
+            @PathVariable String fingerprint,
+            @RequestBody RecommendationRequest req,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        if (authUser == null) {
+            throw new AccessDeniedException("인증이 필요합니다.");
+        }
+        return recommendationService.choosePreviewOption(req, fingerprint, authUser.getId());
+    }
+
     @GetMapping("/sessions/{sessionId}")
     public RecommendationResponse getDetail(@PathVariable Long sessionId,@AuthenticationPrincipal AuthUser authUser
                                             ) {
@@ -14,7 +14,12 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class RecommendationOption {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 배치 INSERT가 가능하도록 IDENTITY 대신 테이블 기반 pooled 채번 (50개 단위 선할당)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "recommendation_option_id")
+    @TableGenerator(name = "recommendation_option_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "recommendation_options", allocationSize = 50)
     private Long optionId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -15,7 +15,12 @@ import lombok.Builder;
 @NoArgsConstructor
 @AllArgsConstructor
 public class RecommendationOptionItem {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 배치 INSERT가 가능하도록 IDENTITY 대신 테이블 기반 pooled 채번 (50개 단위 선할당)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "recommendation_option_item_id")
+    @TableGenerator(name = "recommendation_option_item_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "recommendation_option_items", allocationSize = 50)
     private Long itemId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -8,4 +8,5 @@ public class RecommendationRequest {
     private Integer amount;
     private Boolean useGifticon;
     private Long merchantId;
+    private Integer topK;        // 상위 K개 옵션만 계산 (미지정 시 서버 기본값)
 }
\ No newline at end of file
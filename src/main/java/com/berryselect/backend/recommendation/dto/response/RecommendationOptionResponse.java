@@ -13,6 +13,7 @@ public class RecommendationOptionResponse {
     private Integer expectedPay;
     private Integer expectedSave;
     private Short rankOrder;
+    private String fingerprint;  // 미리보기 옵션 식별값 (저장된 옵션은 optionId 사용, null)
     private List<RecommendationOptionItemResponse> items;
 
     public static RecommendationOptionResponse fromEntity(RecommendationOption option) {
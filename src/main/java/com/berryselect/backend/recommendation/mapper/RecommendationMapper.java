@@ -1,4 +1,58 @@
 package com.berryselect.backend.recommendation.mapper;
 
+import com.berryselect.backend.recommendation.dto.response.RecommendationOptionItemResponse;
+import com.berryselect.backend.recommendation.dto.response.RecommendationOptionResponse;
+import com.berryselect.backend.recommendation.dto.response.RecommendationResponse;
+import com.berryselect.backend.recommendation.service.RecommendationRankingService.RankedItem;
+import com.berryselect.backend.recommendation.service.RecommendationRankingService.RankedOption;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 랭킹 결과(저장 전) → 추천 응답 DTO 변환
+ * - 저장되지 않았으므로 sessionId / optionId / itemId 는 null, 옵션 선택은 fingerprint로
+ */
+@Component
 public class RecommendationMapper {
+
+    public RecommendationResponse toPreviewResponse(Integer inputAmount, Boolean useGifticon,
+                                                    List<RankedOption> ranked) {
+        List<RecommendationOptionResponse> options = new ArrayList<>();
+        short rank = 1;
+        for (RankedOption ro : ranked) {
+            options.add(toOptionResponse(ro, rank++));
+        }
+
+        return RecommendationResponse.builder()
+                .inputAmount(inputAmount)
+                .useGifticon(useGifticon)
+                .options(options)
+                .build();
+    }
+
+    private RecommendationOptionResponse toOptionResponse(RankedOption option, short rankOrder) {
+        List<RecommendationOptionItemResponse> items = new ArrayList<>();
+        short order = 1;
+        for (RankedItem item : option.items()) {
+            items.add(RecommendationOptionItemResponse.builder()
+                    .componentType(item.componentType())
+                    .componentRefId(item.componentRefId())
+                    .ruleId(item.ruleId())
+                    .title(item.title())
+                    .subtitle(item.subtitle())
+                    .appliedValue(item.appliedValue())
+                    .sortOrder(order++)
+                    .build());
+        }
+
+        return RecommendationOptionResponse.builder()
+                .expectedPay(option.expectedPay())
+                .expectedSave(option.expectedSave())
+                .rankOrder(rankOrder)
+                .fingerprint(option.fingerprint())
+                .items(items)
+                .build();
+    }
 }
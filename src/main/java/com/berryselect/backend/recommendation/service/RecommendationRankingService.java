@@ -0,0 +1,359 @@
+package com.berryselect.backend.recommendation.service;
+
+import com.berryselect.backend.benefits.service.BenefitCalculationService;
+import com.berryselect.backend.benefits.service.BenefitCalculationService.CounterSnapshot;
+import com.berryselect.backend.benefits.service.BenefitCalculationService.RuleSaving;
+import com.berryselect.backend.wallet.domain.UserAsset;
+import com.berryselect.backend.wallet.domain.type.AssetType;
+import com.berryselect.backend.wallet.domain.type.GifticonStatus;
+import com.berryselect.backend.wallet.repository.UserAssetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 추천 랭킹 단계 (DB 쓰기 없음)
+ * - 조합: 카드 1장 + (멤버십 0~1개) + (기프티콘 0~1개, useGifticon 일 때)
+ * - 절감이 없는 멤버십/기프티콘은 조합에 넣지 않음 (넣지 않은 조합과 같은 결과)
+ * - 자산별 절감 상한(upper bound)으로 상위 K개에 들 수 없는 조합은 평가 전에 가지치기
+ * - recommendation.search.parallel.enabled 이고 조합 수가 임계값 이상이면 카드별로 나눠 병렬 평가
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendationRankingService {
+
+    private final UserAssetRepository userAssetRepository;
+    private final BenefitCalculationService benefitCalculationService;
+    private final ForkJoinPool recommendationSearchPool;
+
+    @Value("${recommendation.search.default-top-k:20}")
+    private int defaultTopK;
+
+    @Value("${recommendation.search.max-top-k:100}")
+    private int maxTopK;
+
+    // 대형 지갑 병렬 평가 (기본 꺼짐)
+    @Value("${recommendation.search.parallel.enabled:false}")
+    private boolean parallelEnabled;
+
+    @Value("${recommendation.search.parallel.min-combos:2000}")
+    private long parallelMinCombos;
+
+    /**
+     * 상위 K개 추천 옵션 계산 (절감액 내림차순)
+     */
+    public List<RankedOption> rank(RankingQuery query) {
+        List<UserAsset> assets = userAssetRepository.findByUserId(query.userId());
+
+        List<UserAsset> cards = new ArrayList<>();
+        List<UserAsset> memberships = new ArrayList<>();
+        List<UserAsset> gifticons = new ArrayList<>();
+        LocalDate todayKst = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        for (UserAsset ua : assets) {
+            switch (ua.getAssetType()) {
+                case CARD -> cards.add(ua);
+                case MEMBERSHIP -> memberships.add(ua);
+                case GIFTICON -> {
+                    if (query.useGifticon() && isUsableGifticon(ua, todayKst)) gifticons.add(ua);
+                }
+            }
+        }
+        if (cards.isEmpty()) return List.of();
+
+        List<UserAsset> evaluated = new ArrayList<>(cards);
+        evaluated.addAll(memberships);
+        evaluated.addAll(gifticons);
+        CounterSnapshot counters = benefitCalculationService.loadCounterSnapshot(query.userId(), evaluated);
+
+        return search(query, cards, memberships, gifticons, counters);
+    }
+
+    /** 요청 K → 실제 K (미지정 시 기본값, 최대값 제한) */
+    public int resolveTopK(Integer requested) {
+        int k = (requested != null && requested > 0) ? requested : defaultTopK;
+        if (k <= 0) return Integer.MAX_VALUE; // 기본값 0 = 제한 없음
+        return Math.min(k, maxTopK);
+    }
+
+    // ===== 탐색 =====
+
+    private List<RankedOption> search(RankingQuery q,
+                                      List<UserAsset> cards,
+                                      List<UserAsset> memberships,
+                                      List<UserAsset> gifticons,
+                                      CounterSnapshot counters) {
+        Evaluator evaluator = new Evaluator(q, counters);
+        SearchSpace space = new SearchSpace(
+                evaluator.candidates(cards, false),
+                evaluator.candidates(memberships, true),
+                evaluator.candidates(gifticons, true),
+                q.topK());
+
+        List<ScoredCombo> found = useParallel(space)
+                ? searchParallel(space, evaluator)
+                : searchCards(space, evaluator, 0, space.cards().size(), new AtomicInteger(Integer.MIN_VALUE));
+
+        List<ScoredCombo> ordered = new ArrayList<>(found);
+        ordered.sort(RANK_ORDER);
+        if (ordered.size() > space.k()) ordered = ordered.subList(0, space.k());
+
+        return ordered.stream()
+                .map(combo -> toRankedOption(combo, q.amount()))
+                .toList();
+    }
+
+    private boolean useParallel(SearchSpace space) {
+        return parallelEnabled
+                && space.cards().size() > 1
+                && space.comboCount() >= parallelMinCombos;
+    }
+
+    /**
+     * 카드별로 하위 탐색(멤버십 × 기프티콘)을 나눠 병렬 수행
+     * - 각 작업은 자체 상위 K 힙을 갖고, 결과는 (절감액, 열거 순서)로 정렬해 직렬 탐색과 같은 순위를 보장
+     * - 작업 간에는 '이미 확보된 K번째 절감액'만 공유해 가지치기에 사용
+     */
+    private List<ScoredCombo> searchParallel(SearchSpace space, Evaluator evaluator) {
+        AtomicInteger sharedFloor = new AtomicInteger(Integer.MIN_VALUE);
+        List<ForkJoinTask<List<ScoredCombo>>> tasks = new ArrayList<>(space.cards().size());
+        for (int c = 0; c < space.cards().size(); c++) {
+            int cardIndex = c;
+            tasks.add(recommendationSearchPool.submit(
+                    () -> searchCards(space, evaluator, cardIndex, cardIndex + 1, sharedFloor)));
+        }
+
+        List<ScoredCombo> merged = new ArrayList<>();
+        for (ForkJoinTask<List<ScoredCombo>> task : tasks) {
+            merged.addAll(task.join());
+        }
+        return merged;
+    }
+
+    /**
+     * cards[from, to) 범위의 조합 탐색
+     * - 상한 내림차순으로 순회하므로 상한 합이 K번째 이하가 되는 순간 나머지는 모두 건너뜀
+     * - sharedFloor: 다른 작업에서 확보한 K번째 절감액 (동점은 열거 순서로 갈리므로 미만일 때만 가지치기)
+     */
+    private List<ScoredCombo> searchCards(SearchSpace space, Evaluator evaluator,
+                                          int from, int to, AtomicInteger sharedFloor) {
+        List<Candidate> membershipCandidates = space.memberships();
+        List<Candidate> gifticonCandidates = space.gifticons();
+        int maxMembershipBound = membershipCandidates.get(0).upperBound();
+        int maxGifticonBound = gifticonCandidates.get(0).upperBound();
+        int k = space.k();
+
+        // 최소 힙: 현재 K번째(가장 작은) 절감액이 루트
+        PriorityQueue<ScoredCombo> top = new PriorityQueue<>(RANK_ORDER.reversed());
+
+        for (int c = from; c < to; c++) {
+            Candidate card = space.cards().get(c);
+            if (isPruned(top, k, sharedFloor, card.upperBound() + maxMembershipBound + maxGifticonBound)) break;
+            RuleSaving cardSaving = evaluator.best(card);
+            int cardSave = value(cardSaving);
+
+            for (int m = 0; m < membershipCandidates.size(); m++) {
+                Candidate membership = membershipCandidates.get(m);
+                if (isPruned(top, k, sharedFloor, cardSave + membership.upperBound() + maxGifticonBound)) break;
+                RuleSaving membershipSaving = evaluator.best(membership);
+                // 절감이 없는 선택 자산(멤버십/기프티콘) 조합은 그 자산 없는 조합과 같으므로 제외
+                if (isRedundant(membership, membershipSaving)) continue;
+                int membershipSave = value(membershipSaving);
+
+                for (int g = 0; g < gifticonCandidates.size(); g++) {
+                    Candidate gifticon = gifticonCandidates.get(g);
+                    if (isPruned(top, k, sharedFloor, cardSave + membershipSave + gifticon.upperBound())) break;
+                    RuleSaving gifticonSaving = evaluator.best(gifticon);
+                    if (isRedundant(gifticon, gifticonSaving)) continue;
+
+                    int save = cardSave + membershipSave + value(gifticonSaving);
+                    if (top.size() >= k && save <= top.peek().expectedSave()) continue;
+
+                    top.add(new ScoredCombo(save, space.sequence(c, m, g),
+                            List.of(card, membership, gifticon),
+                            Arrays.asList(cardSaving, membershipSaving, gifticonSaving)));
+                    if (top.size() > k) top.poll();
+                    if (top.size() >= k) sharedFloor.accumulateAndGet(top.peek().expectedSave(), Math::max);
+                }
+            }
+        }
+        return new ArrayList<>(top);
+    }
+
+    // 선택 자산인데 절감이 없음 ('선택 안 함' 후보는 해당 없음)
+    private static boolean isRedundant(Candidate candidate, RuleSaving saving) {
+        return candidate.asset() != null && saving == null;
+    }
+
+    private boolean isPruned(PriorityQueue<ScoredCombo> top, int k, AtomicInteger sharedFloor, int bound) {
+        if (bound < sharedFloor.get()) return true;
+        return top.size() >= k && bound <= top.peek().expectedSave();
+    }
+
+    private RankedOption toRankedOption(ScoredCombo combo, int amount) {
+        List<RankedItem> items = new ArrayList<>();
+        for (int i = 0; i < combo.candidates().size(); i++) {
+            UserAsset ua = combo.candidates().get(i).asset();
+            RuleSaving bestRule = combo.savings().get(i);
+            if (ua == null || bestRule == null) continue;
+
+            items.add(new RankedItem(
+                    ua.getAssetType().name(),
+                    ua.getId(),
+                    bestRule.ruleId(),
+                    ua.getProduct().getName(),
+                    bestRule.description() + " (절감 " + bestRule.appliedValue() + "원)",
+                    bestRule.appliedValue()));
+        }
+        return new RankedOption(amount - combo.expectedSave(), combo.expectedSave(), List.copyOf(items));
+    }
+
+    private static int value(RuleSaving saving) {
+        return saving != null ? saving.appliedValue() : 0;
+    }
+
+    private boolean isUsableGifticon(UserAsset ua, LocalDate todayKst) {
+        if (ua.getGifticonStatus() != GifticonStatus.ACTIVE) return false;
+        if (ua.getBalance() != null && ua.getBalance() <= 0) return false;
+        return ua.getExpiresAt() == null || !ua.getExpiresAt().isBefore(todayKst);
+    }
+
+    /**
+     * 자산별 상한/실제 절감액 계산기 (요청 단위 메모이제이션)
+     * - 후보 생성 시 자산의 상품 id/잔액을 미리 꺼내 두어 평가 단계에서는 엔티티에 접근하지 않음
+     * - 병렬 탐색 작업들이 공유하므로 메모는 ConcurrentHashMap 사용
+     */
+    private class Evaluator {
+        private final RankingQuery q;
+        private final CounterSnapshot counters;
+        private final Map<Candidate, Optional<RuleSaving>> bestByCandidate = new ConcurrentHashMap<>();
+
+        Evaluator(RankingQuery q, CounterSnapshot counters) {
+            this.q = q;
+            this.counters = counters;
+        }
+
+        // 상한 내림차순 후보 목록
+        // optional 이면 '선택 안 함' 후보(상한 0)를 상한 0인 후보들 앞에 끼워 동점 시 단독 조합이 먼저 오도록 함
+        List<Candidate> candidates(List<UserAsset> assets, boolean optional) {
+            List<Candidate> result = new ArrayList<>(assets.size() + 1);
+            for (UserAsset ua : assets) {
+                // 기프티콘 절감은 잔액을 넘을 수 없음
+                Integer cap = ua.getAssetType() == AssetType.GIFTICON ? ua.getBalance() : null;
+                int bound = benefitCalculationService.upperBoundSave(ua, q.amount(), counters);
+                result.add(new Candidate(ua, ua.getProduct().getId(), cap, capBy(cap, bound)));
+            }
+            result.sort(Comparator.comparingInt(Candidate::upperBound).reversed());
+            if (optional) {
+                int at = 0;
+                while (at < result.size() && result.get(at).upperBound() > 0) at++;
+                result.add(at, Candidate.NONE);
+            }
+            return List.copyOf(result);
+        }
+
+        RuleSaving best(Candidate candidate) {
+            if (candidate.asset() == null) return null;
+            return bestByCandidate.computeIfAbsent(candidate, this::evaluate).orElse(null);
+        }
+
+        private Optional<RuleSaving> evaluate(Candidate candidate) {
+            RuleSaving best = benefitCalculationService.bestRuleSave(
+                    candidate.productId(), q.amount(), q.merchantId(), q.categoryId(), q.brandId(), counters);
+            if (best == null) return Optional.empty();
+
+            int capped = capBy(candidate.balanceCap(), best.appliedValue());
+            if (capped <= 0) return Optional.empty();
+            return Optional.of(capped == best.appliedValue() ? best
+                    : new RuleSaving(best.description(), capped, best.ruleId()));
+        }
+
+        private int capBy(Integer cap, int value) {
+            return cap != null ? Math.min(value, cap) : value;
+        }
+    }
+
+    // ===== 내부/결과 타입 =====
+
+    // 랭킹 순서: 절감액 내림차순, 동점이면 열거 순서(카드 → 멤버십 → 기프티콘 후보 순)
+    private static final Comparator<ScoredCombo> RANK_ORDER =
+            Comparator.comparingInt(ScoredCombo::expectedSave).reversed()
+                    .thenComparingLong(ScoredCombo::sequence);
+
+    // 자산 후보 (balanceCap: 기프티콘 잔액, 그 외 null)
+    private record Candidate(UserAsset asset, Long productId, Integer balanceCap, int upperBound) {
+        static final Candidate NONE = new Candidate(null, null, null, 0);
+
+        // 엔티티 equals 대신 자산 동일성 기준
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Candidate other && asset == other.asset;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(asset);
+        }
+    }
+
+    // 요청 단위 탐색 공간 (후보 목록은 불변)
+    private record SearchSpace(List<Candidate> cards, List<Candidate> memberships,
+                               List<Candidate> gifticons, int k) {
+
+        long comboCount() {
+            return (long) cards.size() * memberships.size() * gifticons.size();
+        }
+
+        // 직렬 열거 순서와 같은 전역 순번
+        long sequence(int c, int m, int g) {
+            return ((long) c * memberships.size() + m) * gifticons.size() + g;
+        }
+    }
+
+    private record ScoredCombo(int expectedSave, long sequence,
+                               List<Candidate> candidates, List<RuleSaving> savings) {}
+
+    /** 랭킹 입력 */
+    public record RankingQuery(Long userId, int amount, Long merchantId, Long categoryId, Long brandId,
+                               boolean useGifticon, int topK) {}
+
+    /** 랭킹 결과 옵션 (절감액 내림차순) */
+    public record RankedOption(int expectedPay, int expectedSave, List<RankedItem> items) {
+
+        /**
+         * 옵션 식별값 (미리보기 → 선택 시 같은 조합인지 확인용)
+         * - 구성 자산(종류/ID) + 적용 룰 ID + 적용 금액을 SHA-256 → base64url 앞 16바이트
+         * - 순위가 아니라 내용 기준이므로 그 사이 한도/지갑/룰이 바뀌면 값이 달라짐
+         */
+        public String fingerprint() {
+            StringBuilder canonical = new StringBuilder();
+            for (RankedItem item : items) {
+                canonical.append(item.componentType()).append(':')
+                        .append(item.componentRefId()).append(':')
+                        .append(item.ruleId()).append(':')
+                        .append(item.appliedValue()).append(';');
+            }
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256")
+                        .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /** 랭킹 결과 옵션의 구성 자산 */
+    public record RankedItem(String componentType, Long componentRefId, Long ruleId,
+                             String title, String subtitle, int appliedValue) {}
+}
@@ -0,0 +1,84 @@
+package com.berryselect.backend.recommendation.service;
+
+import com.berryselect.backend.benefits.service.BenefitRuleIndex;
+import com.berryselect.backend.recommendation.service.RecommendationRankingService.RankedOption;
+import com.berryselect.backend.recommendation.service.RecommendationRankingService.RankingQuery;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 추천 랭킹 결과 단기 캐시
+ * - 키: 랭킹 입력(사용자/가맹점/금액/옵션) + 사용자 지갑·한도 버전 + 룰 인덱스 버전
+ * - 지갑 변경/결제 시 사용자 버전을 올려 이전 결과가 다시 쓰이지 않도록 함
+ * - 시간/요일 스코프 룰이 있으므로 TTL은 짧게 유지
+ * - 캐시와 버전 모두 인스턴스 로컬: 무효화는 호출한 노드에만 적용되고,
+ *   다른 노드의 캐시는 TTL이 지나야 반영됨 (TTL을 짧게 두는 이유)
+ */
+@Component
+public class RecommendationResultCache {
+
+    private final BenefitRuleIndex benefitRuleIndex;
+    private final Cache<Key, List<RankedOption>> cache;
+    // 사용자별 지갑 버전 (크기 제한 + 미접근 시 만료)
+    // 버전 값은 전역 증가값에서만 받으므로 항목이 제거됐다 다시 생겨도 이전 결과 키와 겹치지 않음 → 캐시 미스
+    private final Cache<Long, Long> walletVersions;
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    public RecommendationResultCache(
+            BenefitRuleIndex benefitRuleIndex,
+            @Value("${recommendation.cache.max-size:10000}") long maxSize,
+            @Value("${recommendation.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.benefitRuleIndex = benefitRuleIndex;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.walletVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds * 2))
+                .build();
+    }
+
+    /** 캐시에 있으면 반환, 없으면 계산 후 저장 (같은 키 동시 요청은 한 번만 계산) */
+    public List<RankedOption> getOrRank(RankingQuery query, Function<RankingQuery, List<RankedOption>> ranker) {
+        Key key = new Key(query, walletVersion(query.userId()), benefitRuleIndex.version());
+        return cache.get(key, k -> ranker.apply(k.query()));
+    }
+
+    /**
+     * 사용자의 지갑/한도 변경 알림
+     * - 즉시 한 번, 트랜잭션 커밋 후 한 번 더 버전을 올려
+     *   커밋 전 데이터로 계산된 결과가 새 버전으로 저장되는 경우도 막음
+     */
+    public void invalidateUser(Long userId) {
+        if (userId == null) return;
+        bump(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(userId);
+                }
+            });
+        }
+    }
+
+    private long walletVersion(Long userId) {
+        return walletVersions.get(userId, k -> versionSequence.incrementAndGet());
+    }
+
+    private void bump(Long userId) {
+        walletVersions.put(userId, versionSequence.incrementAndGet());
+    }
+
+    private record Key(RankingQuery query, long walletVersion, String ruleVersion) {}
+}
@@ -1,7 +1,6 @@
 package com.berryselect.backend.recommendation.service;
 
 
-import com.berryselect.backend.benefits.service.BenefitCalculationService;
 import com.berryselect.backend.merchant.domain.Merchant;
 import com.berryselect.backend.merchant.repository.MerchantRepository;
 import com.berryselect.backend.recommendation.domain.RecommendationOption;
@@ -9,21 +8,19 @@ import com.berryselect.backend.recommendation.domain.RecommendationOptionItem;
 import com.berryselect.backend.recommendation.domain.RecommendationSession;
 import com.berryselect.backend.recommendation.dto.request.RecommendationRequest;
 import com.berryselect.backend.recommendation.dto.response.RecommendationResponse;
-import com.berryselect.backend.recommendation.repository.RecommendationOptionItemRepository;
+import com.berryselect.backend.recommendation.mapper.RecommendationMapper;
 import com.berryselect.backend.recommendation.repository.RecommendationOptionRepository;
 import com.berryselect.backend.recommendation.repository.RecommendationSessionRepository;
-import com.berryselect.backend.wallet.domain.UserAsset;
-import com.berryselect.backend.wallet.repository.UserAssetRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -31,20 +28,88 @@ public class RecommendationService {
 
     private final RecommendationSessionRepository sessionRepository;
     private final RecommendationOptionRepository optionRepository;
-    private final RecommendationOptionItemRepository optionItemRepository;
-    private final UserAssetRepository userAssetRepository;
-    private final BenefitCalculationService benefitCalculationService;
+    private final RecommendationRankingService rankingService;
+    private final RecommendationResultCache resultCache;
     private final MerchantRepository merchantRepository;
+    private final RecommendationMapper recommendationMapper;
 
     @Transactional
     public RecommendationResponse createSession(RecommendationRequest req, Long userId) {
-        // ✅ merchant 조회해서 brand/category 자동 추출
+        // ✅ 상위 K개 조합만 계산 (DB 쓰기 없음)
+        List<RecommendationRankingService.RankedOption> ranked = rank(req, userId);
+
+        RecommendationSession session = persistSession(req, userId, ranked);
+        return RecommendationResponse.fromEntity(session);
+    }
+
+    /**
+     * 미리보기 추천 (DB 쓰기 없음)
+     * - 가맹점 탐색 중에는 세션을 만들지 않고 랭킹 결과만 반환
+     * - sessionId / optionId / itemId 는 null
+     */
+    @Transactional(readOnly = true)
+    public RecommendationResponse previewSession(RecommendationRequest req, Long userId) {
+        List<RecommendationRankingService.RankedOption> ranked = rank(req, userId);
+        return recommendationMapper.toPreviewResponse(req.getAmount(), req.getUseGifticon(), ranked);
+    }
+
+    /**
+     * 미리보기에서 옵션 선택 → 이 시점에 세션/옵션을 저장하고 선택 확정
+     * - 클라이언트가 보낸 금액을 신뢰하지 않도록 같은 입력으로 서버에서 다시 랭킹
+     * - 순위가 아니라 미리보기에서 받은 fingerprint로 옵션을 찾음
+     *   (그 사이 한도/지갑/룰이 바뀌어 같은 조합이 없으면 409 → 클라이언트가 미리보기 재요청)
+     */
+    @Transactional
+    public RecommendationResponse choosePreviewOption(RecommendationRequest req, String fingerprint, Long userId) {
+        if (fingerprint == null || fingerprint.isBlank()) {
+            throw new IllegalArgumentException("fingerprint is required");
+        }
+
+        List<RecommendationRankingService.RankedOption> ranked = rank(req, userId);
+        int chosen = -1;
+        for (int i = 0; i < ranked.size(); i++) {
+            if (fingerprint.equals(ranked.get(i).fingerprint())) {
+                chosen = i;
+                break;
+            }
+        }
+        if (chosen < 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "추천 결과가 변경되었습니다. 다시 조회해 주세요.");
+        }
+
+        RecommendationSession session = persistSession(req, userId, ranked);
+        session.setChosenOptionId(session.getOptions().get(chosen).getOptionId());
+
+        return RecommendationResponse.fromEntity(session);
+    }
+
+    // 같은 입력·같은 지갑 상태의 반복 요청은 단기 캐시에서 반환
+    private List<RecommendationRankingService.RankedOption> rank(RecommendationRequest req, Long userId) {
+        return resultCache.getOrRank(toRankingQuery(req, userId), rankingService::rank);
+    }
+
+    // ✅ merchant 조회해서 brand/category 자동 추출
+    private RecommendationRankingService.RankingQuery toRankingQuery(RecommendationRequest req, Long userId) {
         Merchant merchant = merchantRepository.findById(req.getMerchantId())
                 .orElseThrow(() -> new IllegalArgumentException("Invalid merchantId: " + req.getMerchantId()));
 
         Long brandId = merchant.getBrand() != null ? merchant.getBrand().getId() : null;
         Long categoryId = merchant.getCategory() != null ? merchant.getCategory().getId() : null;
 
+        return new RecommendationRankingService.RankingQuery(
+                userId,
+                req.getAmount(),
+                req.getMerchantId(),
+                categoryId,
+                brandId,
+                Boolean.TRUE.equals(req.getUseGifticon()),
+                rankingService.resolveTopK(req.getTopK()));
+    }
+
+    // 세션 + 랭킹 결과 저장
+    private RecommendationSession persistSession(RecommendationRequest req, Long userId,
+                                                 List<RecommendationRankingService.RankedOption> ranked) {
         RecommendationSession session = RecommendationSession.builder()
                 .userId(userId)
                 .inputAmount(req.getAmount())
@@ -53,91 +118,39 @@ public class RecommendationService {
                 .build();
         sessionRepository.save(session);
 
-        List<UserAsset> assets = userAssetRepository.findByUserId(userId);
-        List<List<UserAsset>> combos = generateCombos(assets);
-
+        // ✅ 랭킹 순서대로 rankOrder 반영 (저장 전에 확정해 flush 시 UPDATE가 생기지 않도록)
         List<RecommendationOption> options = new ArrayList<>();
-        for (List<UserAsset> combo : combos) {
-            Map<UserAsset, List<BenefitCalculationService.RuleSaving>> saveMap =
-                    benefitCalculationService.calculatePerAssetRuleSave(
-                            combo,
-                            req.getAmount(),
-                            userId,
-                            req.getMerchantId(),
-                            categoryId,
-                            brandId
-                    );
-
-            int expectedSave = combo.stream()
-                    .mapToInt(ua -> saveMap.getOrDefault(ua, List.of()).stream()
-                            .max(Comparator.comparingInt(BenefitCalculationService.RuleSaving::appliedValue))
-                            .map(BenefitCalculationService.RuleSaving::appliedValue)
-                            .orElse(0))
-                    .sum();
-            int expectedPay = req.getAmount() - expectedSave;
-
+        short rank = 1;
+        for (RecommendationRankingService.RankedOption ro : ranked) {
             RecommendationOption option = RecommendationOption.builder()
                     .session(session)
-                    .expectedPay(expectedPay)
-                    .expectedSave(expectedSave)
-                    .rankOrder((short) 0)
+                    .expectedPay(ro.expectedPay())
+                    .expectedSave(ro.expectedSave())
+                    .rankOrder(rank++)
                     .build();
-            optionRepository.save(option);
 
             short order = 1;
-            for (UserAsset ua : combo) {
-                List<BenefitCalculationService.RuleSaving> ruleSaves = saveMap.getOrDefault(ua, List.of());
-
-                // 가장 절감액이 큰 rule 선택
-                BenefitCalculationService.RuleSaving bestRule = ruleSaves.stream()
-                        .max(Comparator.comparingInt(BenefitCalculationService.RuleSaving::appliedValue))
-                        .orElse(null);
-
-                if (bestRule != null) {
-                    RecommendationOptionItem item = RecommendationOptionItem.builder()
-                            .option(option)
-                            .componentType(ua.getAssetType().name())
-                            .componentRefId(ua.getId())
-                            .ruleId(bestRule.ruleId())
-                            .title(ua.getProduct().getName())
-                            .appliedValue(bestRule.appliedValue())
-                            .subtitle(bestRule.description() + " (절감 " + bestRule.appliedValue() + "원)")
-                            .sortOrder(order++)
-                            .build();
-                    optionItemRepository.save(item);
-                    option.getItems().add(item);
-                }
+            for (RecommendationRankingService.RankedItem ri : ro.items()) {
+                RecommendationOptionItem item = RecommendationOptionItem.builder()
+                        .option(option)
+                        .componentType(ri.componentType())
+                        .componentRefId(ri.componentRefId())
+                        .ruleId(ri.ruleId())
+                        .title(ri.title())
+                        .appliedValue(ri.appliedValue())
+                        .subtitle(ri.subtitle())
+                        .sortOrder(order++)
+                        .build();
+                option.getItems().add(item);
             }
             options.add(option);
         }
 
-        // ✅ 정렬 후 rankOrder 반영
-        options.sort(Comparator.comparingInt(RecommendationOption::getExpectedSave).reversed());
-        for (short i = 0; i < options.size(); i++) {
-            options.get(i).setRankOrder((short) (i + 1));
-        }
-
+        // ✅ 옵션 + 아이템(cascade) 일괄 저장 → flush 시 JDBC 배치 INSERT
+        optionRepository.saveAll(options);
         session.setOptions(options); // ✅ 세션에 옵션 리스트 세팅
 
-        return RecommendationResponse.fromEntity(session);
-    }
-
-    private List<List<UserAsset>> generateCombos(List<UserAsset> assets) {
-        List<UserAsset> cards = assets.stream()
-                .filter(a -> a.getAssetType().name().equals("CARD"))
-                .toList();
-        List<UserAsset> memberships = assets.stream()
-                .filter(a -> a.getAssetType().name().equals("MEMBERSHIP"))
-                .toList();
-
-        List<List<UserAsset>> combos = new ArrayList<>();
-        for (UserAsset card : cards) {
-            combos.add(List.of(card));
-            for (UserAsset m : memberships) {
-                combos.add(List.of(card, m));
-            }
-        }
-        return combos;
+        return session;
     }
 
     @Transactional(readOnly = true)
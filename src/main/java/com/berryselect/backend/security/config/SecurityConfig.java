@@ -39,6 +39,7 @@ public class SecurityConfig {
                 // 인가규칙
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/**","/actuator/health", "/merchants/**").permitAll()
+                        .requestMatchers("/admin/budget/**").hasRole("ADMIN") // 다른 사용자 데이터 재계산
                         .anyRequest().authenticated() // 나머지는 JWT 필요, 토큰 없으면 401
                 )
                 .exceptionHandling(eh -> eh
@@ -2,6 +2,7 @@ package com.berryselect.backend.transaction.controller;
 
 import com.berryselect.backend.security.dto.AuthUser;
 import com.berryselect.backend.transaction.dto.request.TransactionRequest;
+import com.berryselect.backend.transaction.dto.response.TransactionCursorResponse;
 import com.berryselect.backend.transaction.dto.response.TransactionDetailResponse;
 import com.berryselect.backend.transaction.dto.response.TransactionResponse;
 import com.berryselect.backend.transaction.service.TransactionService;
@@ -53,12 +54,49 @@ public class TransactionController {
 
             return ResponseEntity.ok(transactions);
 
+        } catch (IllegalArgumentException e) {
+            log.warn("거래 내역 조회 요청 오류 - userId: {}, error: {}", userId, e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("거래 내역 조회 실패 - userId: {}, error: {}", userId, e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    // 내 거래 내역 커서 조회 (무한 스크롤, 전체 건수 없음)
+    @GetMapping("/list/cursor")
+    public ResponseEntity<TransactionCursorResponse> getUserTransactionsByCursor(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(value = "yearMonth", required = false) String yearMonth,
+            @RequestParam(value = "categoryId", required = false) Long categoryId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        Long userId = null;
+        try {
+            if (authUser == null) {
+                log.error("인증 정보가 없습니다");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            userId = authUser.getId();
+
+            TransactionCursorResponse transactions =
+                    transactionService.getUserTransactionsByCursor(userId, yearMonth, categoryId, cursor, size);
+
+            log.info("거래 내역 커서 조회 완료 - userId: {}, {}건, hasNext: {}",
+                    userId, transactions.getItems().size(), transactions.isHasNext());
+
+            return ResponseEntity.ok(transactions);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("거래 내역 커서 조회 요청 오류 - userId: {}, error: {}", userId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("거래 내역 커서 조회 실패 - userId: {}, error: {}", userId, e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     // 월별 추천 사용률 조회
     @GetMapping("/recommendation-rate")
     public ResponseEntity<Double> getRecommendationUsageRate(
@@ -78,6 +116,9 @@ public class TransactionController {
             Double usageRate = transactionService.getRecommendationUsageRate(userId, yearMonth);
             return ResponseEntity.ok(usageRate);
 
+        } catch (IllegalArgumentException e) {
+            log.warn("추천 사용률 조회 요청 오류 - userId: {}, error: {}", userId, e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("추천 사용률 조회 실패 - userId: {}, error: {}", userId, e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
@@ -103,6 +144,9 @@ public class TransactionController {
             Long totalSaved = transactionService.getTotalSavedAmount(userId, yearMonth);
             return ResponseEntity.ok(totalSaved);
 
+        } catch (IllegalArgumentException e) {
+            log.warn("총 절약금액 조회 요청 오류 - userId: {}, error: {}", userId, e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("총 절약금액 조회 실패 - userId: {}, error: {}", userId, e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
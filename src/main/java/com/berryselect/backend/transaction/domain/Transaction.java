@@ -6,7 +6,15 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "transactions")
+@Table(
+        name = "transactions",
+        indexes = {
+                // 거래 내역 최신순/커서 조회 (user_id 고정 후 tx_time, tx_id 역순 범위 스캔)
+                @Index(name = "idx_transactions_user_time", columnList = "user_id, tx_time DESC, tx_id DESC"),
+                // 카테고리 필터 + 월 범위 조회 (COUNT는 인덱스만으로 처리)
+                @Index(name = "idx_transactions_user_category_time", columnList = "user_id, category_id, tx_time DESC, tx_id DESC")
+        }
+)
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,23 @@
+package com.berryselect.backend.transaction.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 거래 내역 커서 페이지 응답 DTO
+ * - 프론트: 무한 스크롤 거래 목록 (전체 건수 없이 다음 커서만 전달)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionCursorResponse {
+    @Builder.Default
+    private List<TransactionDetailResponse> items = List.of(); // 이번 페이지 거래 목록
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext; // 다음 페이지 존재 여부
+}
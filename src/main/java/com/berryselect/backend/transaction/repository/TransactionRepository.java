@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.List;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
@@ -17,20 +18,46 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
      * 사용자별 거래 내역 조회 (페이징, 필터링)
      * - 프론트: 최근 거래 목록 카드 표시용
      * - 가맹점, 결제금액, 카테고리 정보 포함
+     * - 월 필터는 KST 기준 [startUtc, endUtc) 범위 (null이면 전체 기간)
       */
     @Query(value = """
         SELECT t FROM Transaction t
                 WHERE t.userId = :userId
-                AND (:yearMonth IS NULL OR DATE_FORMAT(t.txTime, '%Y-%m') = :yearMonth)
+                AND (:startUtc IS NULL OR t.txTime >= :startUtc)
+                AND (:endUtc IS NULL OR t.txTime < :endUtc)
                 AND (:categoryId IS NULL OR t.categoryId = :categoryId)
-                ORDER BY t.txTime DESC
+                ORDER BY t.txTime DESC, t.txId DESC
         """)
     Page<Transaction> findUserTransactionsWithFilters(
             @Param("userId") Long userId,
-            @Param("yearMonth") String yearMonth,
+            @Param("startUtc") Instant startUtc,
+            @Param("endUtc") Instant endUtc,
             @Param("categoryId") Long categoryId,
             Pageable pageable);
 
+    /**
+     * 사용자별 거래 내역 커서 조회 (무한 스크롤)
+     * - (txTime, txId)가 커서보다 앞선(과거) 거래를 최신순으로 limit 건 조회, COUNT 쿼리 없음
+     * - idx_transactions_user_time 인덱스 범위 스캔으로 페이지 깊이와 무관하게 일정한 비용
+     */
+    @Query("""
+        SELECT t FROM Transaction t
+                WHERE t.userId = :userId
+                AND (:startUtc IS NULL OR t.txTime >= :startUtc)
+                AND (:endUtc IS NULL OR t.txTime < :endUtc)
+                AND (:categoryId IS NULL OR t.categoryId = :categoryId)
+                AND (t.txTime < :cursorTime OR (t.txTime = :cursorTime AND t.txId < :cursorId))
+                ORDER BY t.txTime DESC, t.txId DESC
+        """)
+    List<Transaction> findUserTransactionsBeforeCursor(
+            @Param("userId") Long userId,
+            @Param("startUtc") Instant startUtc,
+            @Param("endUtc") Instant endUtc,
+            @Param("categoryId") Long categoryId,
+            @Param("cursorTime") Instant cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable limit);
+
     /**
      * 추천 사용률 계산용 - 베리픽 결제 추천을 통해 결제한 거래 수
      * - 프론트: 요약 페이지 추천 사용률 표시
@@ -79,4 +106,30 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("end") Instant end
     );
 
+    /**
+     * 월 리포트용 거래 집계 (단일 쿼리)
+     * - 전체 거래 수, 추천 경유 거래 수, 적용 혜택 총 절감액을 한 번에 계산
+     * - applied_benefits LEFT JOIN으로 거래 행이 늘어나므로 건수는 DISTINCT tx_id 기준
+     */
+    @Query(value = """
+      SELECT COUNT(DISTINCT t.tx_id) AS totalTransactions,
+             COUNT(DISTINCT CASE WHEN t.session_id IS NOT NULL THEN t.tx_id END) AS recommendedTransactions,
+             CAST(COALESCE(SUM(ab.saved_amount), 0) AS SIGNED) AS totalSaved
+        FROM transactions t
+        LEFT JOIN applied_benefits ab ON ab.tx_id = t.tx_id
+       WHERE t.user_id = :userId
+         AND t.tx_time >= :start
+         AND t.tx_time < :end
+    """, nativeQuery = true)
+    MonthlyUsageStats aggregateMonthlyUsage(
+            @Param("userId") Long userId,
+            @Param("start") Instant start,
+            @Param("end") Instant end
+    );
+
+    interface MonthlyUsageStats {
+        Long getTotalTransactions();
+        Long getRecommendedTransactions();
+        Long getTotalSaved();
+    }
 }
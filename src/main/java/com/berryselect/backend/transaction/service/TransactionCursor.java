@@ -0,0 +1,45 @@
+package com.berryselect.backend.transaction.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 거래 내역 커서 (마지막으로 본 거래의 txTime, txId)
+ * - 클라이언트에는 "epochSecond.nano:txId"를 URL-safe Base64로 감싼 불투명 문자열로 전달
+ * - 정렬 기준(tx_time DESC, tx_id DESC)과 같은 순서로 다음 페이지 시작 위치를 나타냄
+ */
+public record TransactionCursor(Instant txTime, Long txId) {
+
+    /** 첫 페이지: 모든 거래보다 뒤에 있는 가상의 위치 (MySQL DATETIME 최댓값) */
+    static final TransactionCursor FIRST =
+            new TransactionCursor(Instant.parse("9999-12-31T23:59:59Z"), Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = txTime.getEpochSecond() + "." + txTime.getNano() + ":" + txId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/빈 값이면 첫 페이지, 형식이 맞지 않으면 IllegalArgumentException */
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int colon = raw.indexOf(':');
+            int dot = raw.indexOf('.');
+            if (dot < 0 || colon < dot) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            Instant txTime = Instant.ofEpochSecond(
+                    Long.parseLong(raw.substring(0, dot)),
+                    Long.parseLong(raw.substring(dot + 1, colon)));
+            return new TransactionCursor(txTime, Long.parseLong(raw.substring(colon + 1)));
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -1,27 +1,33 @@
 package com.berryselect.backend.transaction.service;
 
-import com.berryselect.backend.budget.domain.MonthlyCategorySummary;
-import com.berryselect.backend.budget.repository.MonthlyCategorySummaryRepository;
+import com.berryselect.backend.benefits.service.BenefitLimitService;
+import com.berryselect.backend.budget.service.MonthlyReportSnapshotService;
+import com.berryselect.backend.budget.service.SummaryAggregationService;
 import com.berryselect.backend.merchant.domain.Category;
+import com.berryselect.backend.merchant.domain.Merchant;
 import com.berryselect.backend.merchant.repository.CategoryRepository;
 import com.berryselect.backend.merchant.repository.MerchantRepository;
 import com.berryselect.backend.recommendation.domain.RecommendationOption;
 import com.berryselect.backend.recommendation.domain.RecommendationSession;
 import com.berryselect.backend.recommendation.repository.RecommendationOptionRepository;
 import com.berryselect.backend.recommendation.repository.RecommendationSessionRepository;
+import com.berryselect.backend.recommendation.service.RecommendationResultCache;
 import com.berryselect.backend.transaction.domain.AppliedBenefit;
 import com.berryselect.backend.transaction.domain.Transaction;
 import com.berryselect.backend.transaction.dto.request.TransactionRequest;
 import com.berryselect.backend.transaction.dto.response.TransactionResponse;
 import com.berryselect.backend.transaction.dto.response.AppliedBenefitResponse;
+import com.berryselect.backend.transaction.dto.response.TransactionCursorResponse;
 import com.berryselect.backend.transaction.dto.response.TransactionDetailResponse;
 import com.berryselect.backend.transaction.mapper.TransactionMapper;
 import com.berryselect.backend.transaction.repository.AppliedBenefitRepository;
 import com.berryselect.backend.transaction.repository.TransactionRepository;
+import com.berryselect.backend.wallet.domain.UserAsset;
 import com.berryselect.backend.wallet.repository.UserAssetRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,9 +35,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.YearMonth;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +51,9 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 @Slf4j
 public class TransactionService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     private final TransactionMapper transactionMapper;
     private final TransactionRepository transactionRepository;
     private final AppliedBenefitRepository appliedBenefitRepository;
@@ -50,7 +62,10 @@ public class TransactionService {
     private final UserAssetRepository userAssetRepository;
     private final RecommendationSessionRepository sessionRepository;
     private final RecommendationOptionRepository optionRepository;
-    private final MonthlyCategorySummaryRepository monthlyCategorySummaryRepository;
+    private final SummaryAggregationService summaryAggregationService;
+    private final BenefitLimitService benefitLimitService;
+    private final MonthlyReportSnapshotService monthlyReportSnapshotService;
+    private final RecommendationResultCache recommendationResultCache;
 
     @Transactional
     public TransactionResponse createTransaction(TransactionRequest req, Long userId) {
@@ -89,8 +104,20 @@ public class TransactionService {
                 .toList();
         appliedBenefitRepository.saveAll(benefits);
 
-        // ✅ 월별 카테고리 요약 업데이트
-        updateMonthlyCategorySummary(tx, benefits);
+        // ✅ 혜택 한도 소진 (한도 초과 시 예외 → 결제 전체 롤백)
+        benefitLimitService.consume(userId, benefits.stream()
+                .collect(Collectors.toMap(AppliedBenefit::getRuleId, AppliedBenefit::getSavedAmount, Integer::sum)));
+
+        // ✅ 월별 카테고리 요약은 아웃박스에 기록 후 비동기 반영
+        summaryAggregationService.enqueue(tx, benefits.stream()
+                .mapToLong(AppliedBenefit::getSavedAmount)
+                .sum());
+
+        // ✅ 혜택 사용으로 한도가 바뀌었으므로 캐시된 추천 결과 무효화
+        recommendationResultCache.invalidateUser(userId);
+
+        // ✅ 거래 수/추천 사용률이 바뀌었으므로 해당 월 리포트 스냅샷 무효화
+        monthlyReportSnapshotService.markStale(userId, tx.getTxTime());
 
 
         return TransactionResponse.builder()
@@ -121,8 +148,9 @@ public class TransactionService {
         log.info("사용자 거래 내역 조회 - userId: {}, yearMonth: {}, categoryId: {}",
                 userId, yearMonth, categoryId);
 
+        MonthRange range = kstMonthRange(yearMonth);
         Page<Transaction> transactions = transactionRepository
-                .findUserTransactionsWithFilters(userId, yearMonth, categoryId, pageable);
+                .findUserTransactionsWithFilters(userId, range.startUtc(), range.endUtc(), categoryId, pageable);
 
         List<Long> txIds = transactions.getContent().stream()
                 .map(Transaction::getTxId)
@@ -130,41 +158,86 @@ public class TransactionService {
 
         Map<Long, List<AppliedBenefit>> benefitsMap = getBenefitsMapByTxIds(txIds);
 
-        return transactions.map(transaction -> {
-            List<AppliedBenefit> benefits = benefitsMap.getOrDefault(transaction.getTxId(), List.of());
+        // 페이지 전체의 가맹점/카테고리/자산 이름을 종류별 한 번의 조회로 준비
+        NameLookup names = loadNames(transactions.getContent(), benefitsMap);
+
+        return transactions.map(transaction -> toDetailResponse(transaction, benefitsMap, names));
+    }
+
+    /**
+     * 사용자 거래 내역 커서 조회
+     * - 마지막으로 받은 거래 위치(cursor) 이후 size건 + 다음 커서, 전체 건수(COUNT)는 계산하지 않음
+     * - size+1건을 읽어 다음 페이지 존재 여부 판단
+     */
+    public TransactionCursorResponse getUserTransactionsByCursor(
+            Long userId, String yearMonth, Long categoryId, String cursor, int size) {
+
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        log.info("사용자 거래 내역 커서 조회 - userId: {}, yearMonth: {}, categoryId: {}, size: {}",
+                userId, yearMonth, categoryId, pageSize);
+
+        MonthRange range = kstMonthRange(yearMonth);
+        List<Transaction> rows = transactionRepository.findUserTransactionsBeforeCursor(
+                userId, range.startUtc(), range.endUtc(), categoryId, position.txTime(), position.txId(),
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Transaction> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<Long> txIds = page.stream()
+                .map(Transaction::getTxId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<AppliedBenefit>> benefitsMap = getBenefitsMapByTxIds(txIds);
+        NameLookup names = loadNames(page, benefitsMap);
+
+        List<TransactionDetailResponse> items = page.stream()
+                .map(transaction -> toDetailResponse(transaction, benefitsMap, names))
+                .collect(Collectors.toList());
 
-            String merchantName = getMerchantName(transaction.getMerchantId());
-            String categoryName = getCategoryName(transaction.getCategoryId());
-            String paymentCardName = getPaymentCardName(transaction.getPaymentAssetId());
+        String nextCursor = null;
+        if (hasNext) {
+            Transaction last = page.get(page.size() - 1);
+            nextCursor = new TransactionCursor(last.getTxTime(), last.getTxId()).encode();
+        }
 
-            List<AppliedBenefitResponse> benefitResponses = benefits.stream()
-                    .map(this::convertToBenefitResponse)
-                    .collect(Collectors.toList());
+        return TransactionCursorResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
 
-            Integer totalSavedAmount = benefits.stream()
-                    .mapToInt(AppliedBenefit::getSavedAmount)
-                    .sum();
+    private TransactionDetailResponse toDetailResponse(
+            Transaction transaction, Map<Long, List<AppliedBenefit>> benefitsMap, NameLookup names) {
+        List<AppliedBenefit> benefits = benefitsMap.getOrDefault(transaction.getTxId(), List.of());
 
-            return transactionMapper.toDetailResponse(
-                    transaction, merchantName, categoryName, paymentCardName,
-                    benefitResponses, totalSavedAmount);
-        });
+        String merchantName = getMerchantName(transaction.getMerchantId(), names);
+        String categoryName = getCategoryName(transaction.getCategoryId(), names);
+        String paymentCardName = getPaymentCardName(transaction.getPaymentAssetId(), names);
+
+        List<AppliedBenefitResponse> benefitResponses = benefits.stream()
+                .map(benefit -> convertToBenefitResponse(benefit, names))
+                .collect(Collectors.toList());
+
+        Integer totalSavedAmount = benefits.stream()
+                .mapToInt(AppliedBenefit::getSavedAmount)
+                .sum();
+
+        return transactionMapper.toDetailResponse(
+                transaction, merchantName, categoryName, paymentCardName,
+                benefitResponses, totalSavedAmount);
     }
 
     /**
      * 월별 추천 사용률 계산
      */
     public Double getRecommendationUsageRate(Long userId, String yearMonth) {
-        // 문자열 "YYYY-MM" → YearMonth
-        YearMonth ym = YearMonth.parse(yearMonth);
-
-        // Asia/Seoul 기준 해당 월 첫날 00:00과 다음 달 첫날 00:00
-        ZonedDateTime startKst = ym.atDay(1).atStartOfDay(ZoneId.of("Asia/Seoul"));
-        ZonedDateTime endKst   = ym.plusMonths(1).atDay(1).atStartOfDay(ZoneId.of("Asia/Seoul"));
-
-        // UTC Instant로 변환 (DB에 저장된 tx_time은 UTC 기준)
-        Instant startUtc = startKst.toInstant();
-        Instant endUtc   = endKst.toInstant();
+        MonthRange range = requiredKstMonthRange(yearMonth);
+        Instant startUtc = range.startUtc();
+        Instant endUtc   = range.endUtc();
 
         // 수정한 Repository 메서드 호출
         Long total = transactionRepository.countTotalTransactionsByMonth(userId, startUtc, endUtc);
@@ -187,19 +260,43 @@ public class TransactionService {
      * 월별 총 절약금액 조회
      */
     public Long getTotalSavedAmount(Long userId, String yearMonth) {
-        YearMonth ym = YearMonth.parse(yearMonth);
-        ZonedDateTime startKst = ym.atDay(1).atStartOfDay(ZoneId.of("Asia/Seoul"));
-        ZonedDateTime endKst   = ym.plusMonths(1).atDay(1).atStartOfDay(ZoneId.of("Asia/Seoul"));
-        Instant startUtc = startKst.toInstant();
-        Instant endUtc   = endKst.toInstant();
-
-        return appliedBenefitRepository.getTotalSavedByUserAndMonth(userId, startUtc, endUtc);
+        MonthRange range = requiredKstMonthRange(yearMonth);
+        return appliedBenefitRepository.getTotalSavedByUserAndMonth(userId, range.startUtc(), range.endUtc());
     }
 
 
 
     // ===== 내부 헬퍼 메서드 =====
 
+    /**
+     * "YYYY-MM" → KST 기준 해당 월의 UTC 구간 [startUtc, endUtc)
+     * - Asia/Seoul 기준 해당 월 첫날 00:00과 다음 달 첫날 00:00 (DB에 저장된 tx_time은 UTC 기준)
+     * - tx_time 컬럼을 함수로 감싸지 않고 범위 비교하므로 인덱스 범위 스캔 가능
+     * - yearMonth가 없으면 기간 조건 없음 (양 끝 null)
+     */
+    private static MonthRange kstMonthRange(String yearMonth) {
+        if (yearMonth == null || yearMonth.isBlank()) {
+            return new MonthRange(null, null);
+        }
+        YearMonth ym;
+        try {
+            ym = YearMonth.parse(yearMonth);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("yearMonth는 YYYY-MM 형식이어야 합니다: " + yearMonth, e);
+        }
+        return new MonthRange(
+                ym.atDay(1).atStartOfDay(KST).toInstant(),
+                ym.plusMonths(1).atDay(1).atStartOfDay(KST).toInstant());
+    }
+
+    // 월 집계용: yearMonth가 없으면 전체 기간으로 넘어가지 않도록 거부
+    private static MonthRange requiredKstMonthRange(String yearMonth) {
+        if (yearMonth == null || yearMonth.isBlank()) {
+            throw new IllegalArgumentException("yearMonth는 필수입니다. (YYYY-MM)");
+        }
+        return kstMonthRange(yearMonth);
+    }
+
     private Map<Long, List<AppliedBenefit>> getBenefitsMapByTxIds(List<Long> txIds) {
         if (txIds.isEmpty()) {
             return Map.of();
@@ -211,8 +308,52 @@ public class TransactionService {
                 .collect(Collectors.groupingBy(ab -> ab.getTx().getTxId()));
     }
 
-    private AppliedBenefitResponse convertToBenefitResponse(AppliedBenefit benefit) {
-        String sourceName = getSourceName(benefit.getSourceRef(), benefit.getSourceType());
+    /**
+     * 페이지 내 이름 조회용 맵 일괄 로드
+     * - 가맹점(+브랜드), 카테고리, 자산(+상품)을 각각 IN 조회 1회
+     */
+    private NameLookup loadNames(List<Transaction> transactions, Map<Long, List<AppliedBenefit>> benefitsMap) {
+        Set<Long> merchantIds = new HashSet<>();
+        Set<Long> categoryIds = new HashSet<>();
+        Set<Long> assetIds = new HashSet<>();
+        for (Transaction t : transactions) {
+            if (t.getMerchantId() != null) merchantIds.add(t.getMerchantId());
+            if (t.getCategoryId() != null) categoryIds.add(t.getCategoryId());
+            if (t.getPaymentAssetId() != null) assetIds.add(t.getPaymentAssetId());
+        }
+        benefitsMap.values().forEach(list -> list.forEach(b -> {
+            if (b.getSourceRef() != null) assetIds.add(b.getSourceRef());
+        }));
+
+        Map<Long, String> merchantNames = new HashMap<>();
+        if (!merchantIds.isEmpty()) {
+            for (Merchant merchant : merchantRepository.findAllWithBrandByIdIn(merchantIds)) {
+                merchantNames.put(merchant.getId(), merchant.getBrand() != null
+                        ? merchant.getBrand().getName() + " " + merchant.getName()
+                        : merchant.getName());
+            }
+        }
+
+        Map<Long, String> categoryNames = new HashMap<>();
+        if (!categoryIds.isEmpty()) {
+            for (Category category : categoryRepository.findAllById(categoryIds)) {
+                categoryNames.put(category.getId(), category.getName());
+            }
+        }
+
+        // 상품이 없는 자산은 null 로 넣어 '자산은 있음'과 '자산 없음'을 구분
+        Map<Long, String> assetNames = new HashMap<>();
+        if (!assetIds.isEmpty()) {
+            for (UserAsset asset : userAssetRepository.findWithProductByIdIn(assetIds)) {
+                assetNames.put(asset.getId(), asset.getProduct() != null ? asset.getProduct().getName() : null);
+            }
+        }
+
+        return new NameLookup(merchantNames, categoryNames, assetNames);
+    }
+
+    private AppliedBenefitResponse convertToBenefitResponse(AppliedBenefit benefit, NameLookup names) {
+        String sourceName = getSourceName(benefit.getSourceRef(), benefit.getSourceType(), names);
         String benefitDescription = generateBenefitDescription(benefit);
 
         return transactionMapper.toBenefitResponse(benefit, sourceName, benefitDescription);
@@ -221,69 +362,44 @@ public class TransactionService {
     /**
      * 가맹점명 조회
      */
-    private String getMerchantName(Long merchantId) {
+    private String getMerchantName(Long merchantId, NameLookup names) {
         if (merchantId == null) {
             return "알 수 없는 가맹점";
         }
-
-        return merchantRepository.findById(merchantId)
-                .map(merchant -> {
-                    if (merchant.getBrand() != null) {
-                        return merchant.getBrand().getName() + " " + merchant.getName();
-                    }
-                    return merchant.getName();
-                })
-                .orElse("알 수 없는 가맹점");
+        return names.merchantNames().getOrDefault(merchantId, "알 수 없는 가맹점");
     }
 
     /**
      * 카테고리명 조회
      */
-    private String getCategoryName(Long categoryId) {
+    private String getCategoryName(Long categoryId, NameLookup names) {
         if (categoryId == null) {
             return "기타";
         }
-
-        return categoryRepository.findById(categoryId)
-                .map(Category::getName)
-                .orElse("기타");
+        return names.categoryNames().getOrDefault(categoryId, "기타");
     }
 
     /**
      * 결제 카드/자산명 조회
      */
-    private String getPaymentCardName(Long paymentAssetId) {
-        if (paymentAssetId == null) {
+    private String getPaymentCardName(Long paymentAssetId, NameLookup names) {
+        if (paymentAssetId == null || !names.assetNames().containsKey(paymentAssetId)) {
             return "현금";
         }
-
-        return userAssetRepository.findById(paymentAssetId)
-                .map(asset -> {
-                    if (asset.getProduct() != null) {
-                        return asset.getProduct().getName();
-                    }
-                    return "알 수 없는 카드";
-                })
-                .orElse("현금");
+        String name = names.assetNames().get(paymentAssetId);
+        return name != null ? name : "알 수 없는 카드";
     }
 
     /**
      * 혜택 소스명 조회
      */
-    private String getSourceName(Long sourceRef, String sourceType) {
+    private String getSourceName(Long sourceRef, String sourceType, NameLookup names) {
         String fallback = toKoreanSourceType(sourceType);
         if (sourceRef == null) {
             return fallback;
         }
-
-        return userAssetRepository.findById(sourceRef)
-                .map(asset -> {
-                    if (asset.getProduct() != null) {
-                        return asset.getProduct().getName();
-                    }
-                    return fallback;
-                })
-                .orElse(fallback);
+        String name = names.assetNames().get(sourceRef);
+        return name != null ? name : fallback;
     }
 
     private String toKoreanSourceType(String sourceType) {
@@ -300,52 +416,10 @@ public class TransactionService {
         return String.format("%,d원 절약", benefit.getSavedAmount());
     }
 
-    /**
-     * 월별 카테고리 요약 업데이트
-     */
-    private void updateMonthlyCategorySummary(Transaction transaction, List<AppliedBenefit> benefits) {
-        if (transaction.getCategoryId() == null) {
-            log.warn("거래에 카테고리가 없어 월별 요약 업데이트를 건너뜁니다. txId: {}", transaction.getTxId());
-            return;
-        }
-
-        // 년월 계산 (KST 기준)
-        String yearMonth = transaction.getTxTime()
-                .atZone(ZoneId.of("Asia/Seoul"))
-                .format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM"));
-
-        // 총 절약 금액 계산
-        Long totalSaved = benefits.stream()
-                .mapToLong(AppliedBenefit::getSavedAmount)
-                .sum();
+    // 거래 내역 페이지 이름 조회 결과 (id → 표시 이름)
+    private record NameLookup(Map<Long, String> merchantNames,
+                              Map<Long, String> categoryNames,
+                              Map<Long, String> assetNames) {}
 
-        log.info("월별 카테고리 요약 업데이트 - userId: {}, yearMonth: {}, categoryId: {}, spent: {}, saved: {}",
-                transaction.getUserId(), yearMonth, transaction.getCategoryId(),
-                transaction.getPaidAmount(), totalSaved);
-
-        // 기존 요약 조회 또는 새로 생성
-        MonthlyCategorySummary summary = monthlyCategorySummaryRepository
-                .findByUserIdAndYearMonthAndCategoryId(
-                        transaction.getUserId(),
-                        yearMonth,
-                        transaction.getCategoryId())
-                .orElse(MonthlyCategorySummary.builder()
-                        .userId(transaction.getUserId())
-                        .yearMonth(yearMonth)
-                        .categoryId(transaction.getCategoryId())
-                        .amountSpent(0L)
-                        .amountSaved(0L)
-                        .txCount(0)
-                        .build());
-
-        summary.addTransaction(transaction.getPaidAmount().longValue(), totalSaved);
-
-        monthlyCategorySummaryRepository.save(summary);
-
-        log.info("월별 카테고리 요약 업데이트 완료 - 총지출: {}, 총절약: {}, 거래건수: {}",
-                summary.getAmountSpent(), summary.getAmountSaved(), summary.getTxCount());
-    }
+    private record MonthRange(Instant startUtc, Instant endUtc) {}
 }
-
-
-
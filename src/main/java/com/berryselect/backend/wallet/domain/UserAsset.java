@@ -10,7 +10,13 @@ import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "user_assets")
+@Table(
+        name = "user_assets",
+        indexes = {
+                // 만료 예정 기프티콘 배치 스캔 (타입/상태/만료일 고정 후 id 순 키셋)
+                @Index(name = "idx_user_assets_gifticon_expiry", columnList = "asset_type, status, expires_at, id")
+        }
+)
 @Getter
 @Setter
 public class UserAsset {
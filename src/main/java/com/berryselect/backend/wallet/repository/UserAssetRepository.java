@@ -13,6 +13,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,10 @@ public interface UserAssetRepository extends JpaRepository<UserAsset, Long> {
     @EntityGraph(attributePaths = {"product", "product.brandRef"})
     List<UserAsset> findByUserIdAndAssetTypeOrderByIdDesc(Long userId, AssetType assetType);
 
+    // 여러 자산 + 상품 일괄 조회 (거래 내역 이름 표시용)
+    @EntityGraph(attributePaths = {"product"})
+    List<UserAsset> findWithProductByIdIn(Collection<Long> ids);
+
     // 단건 상세 조회
     @EntityGraph(attributePaths = {"product", "product.brandRef"})
     Optional<UserAsset> findByIdAndUserIdAndAssetType(Long id, Long userId, AssetType assetType);
@@ -54,15 +59,33 @@ public interface UserAssetRepository extends JpaRepository<UserAsset, Long> {
                                     @Param("to") LocalDate to,
                                     Pageable pageable);
 
-    // 만료 예정 기프티콘 조회
-    @EntityGraph(attributePaths = {"product", "product.brandRef"})
+    /**
+     * 만료 예정 기프티콘 키셋 페이지 조회 (알림 배치용)
+     * - idx_user_assets_gifticon_expiry (asset_type, status, expires_at, id) 범위 스캔
+     * - id > afterId 순으로 limit 건씩, 알림에 필요한 필드만 프로젝션 (엔티티 미적재)
+     * - user_id % shardCount = shard 인 사용자만 (샤드 없으면 shardCount = 1, shard = 0)
+     */
     @Query("""
-    select ua
+    select ua.id as id, ua.userId as userId, p.name as productName
       from UserAsset ua
+      join ua.product p
      where ua.assetType = com.berryselect.backend.wallet.domain.type.AssetType.GIFTICON
        and ua.gifticonStatus = com.berryselect.backend.wallet.domain.type.GifticonStatus.ACTIVE
        and ua.expiresAt = :expirationDate
+       and ua.id > :afterId
+       and mod(ua.userId, :shardCount) = :shard
+     order by ua.id
     """)
-    List<UserAsset> findExpiringGifticons(@Param("expirationDate") LocalDate expirationDate);
+    List<ExpiringGifticon> findExpiringGifticonPage(@Param("expirationDate") LocalDate expirationDate,
+                                                    @Param("afterId") Long afterId,
+                                                    @Param("shard") int shard,
+                                                    @Param("shardCount") int shardCount,
+                                                    Pageable limit);
+
+    interface ExpiringGifticon {
+        Long getId();
+        Long getUserId();
+        String getProductName();
+    }
 
 }
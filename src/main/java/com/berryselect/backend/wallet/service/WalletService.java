@@ -1,6 +1,7 @@
 package com.berryselect.backend.wallet.service;
 
 import com.berryselect.backend.auth.dto.response.UserSettingsResponse;
+import com.berryselect.backend.recommendation.service.RecommendationResultCache;
 import com.berryselect.backend.wallet.adapter.client.SettingsApiClient;
 import com.berryselect.backend.wallet.domain.GifticonRedemption;
 import com.berryselect.backend.wallet.domain.UserAsset;
@@ -36,6 +37,7 @@ public class WalletService {
     private final GifticonRedemptionRepository gifticonRedemptionRepository;
     private final SettingsApiClient settingsApiClient;
     private final BenefitAggregationService benefitAggregationService;
+    private final RecommendationResultCache recommendationResultCache;
 
     /**
      * =====================
@@ -133,6 +135,7 @@ public class WalletService {
         ua.setLevel(req.getLevel());
 
         UserAsset saved = userAssetRepository.save(ua);
+        recommendationResultCache.invalidateUser(userId);
         return WalletMapper.toMembershipDetail(saved);
     }
 
@@ -142,6 +145,7 @@ public class WalletService {
                 .findByIdAndUserIdAndAssetType(membershipId, userId, AssetType.MEMBERSHIP)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Membership not found"));
         userAssetRepository.delete(ua);
+        recommendationResultCache.invalidateUser(userId);
     }
 
     /**
@@ -211,6 +215,7 @@ public class WalletService {
         ua.setGifticonStatus(GifticonStatus.ACTIVE);
 
         UserAsset saved = userAssetRepository.save(ua);
+        recommendationResultCache.invalidateUser(userId);
         return WalletMapper.toGifticonDetail(saved);
     }
 
@@ -221,6 +226,7 @@ public class WalletService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Gifticon not found"));
 
         ua.setGifticonStatus(gifticonStatus);
+        recommendationResultCache.invalidateUser(userId);
         return WalletMapper.toGifticonDetail(ua);
     }
 
@@ -230,6 +236,7 @@ public class WalletService {
                 .findByIdAndUserIdAndAssetType(gifticonId, userId, AssetType.GIFTICON)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Gifticon not found"));
         userAssetRepository.delete(ua);
+        recommendationResultCache.invalidateUser(userId);
     }
 
     @Transactional
@@ -257,5 +264,6 @@ public class WalletService {
         redemption.setRedeemedAt(Instant.now());
 
         gifticonRedemptionRepository.save(redemption);
+        recommendationResultCache.invalidateUser(userId);
     }
 }
\ No newline at end of file
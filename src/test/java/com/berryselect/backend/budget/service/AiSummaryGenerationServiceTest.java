@@ -0,0 +1,230 @@
+package com.berryselect.backend.budget.service;
+
+import com.berryselect.backend.budget.domain.AnalysisReport;
+import com.berryselect.backend.budget.domain.MonthlyCategorySummary;
+import com.berryselect.backend.budget.domain.ReportType;
+import com.berryselect.backend.budget.repository.AnalysisReportRepository;
+import com.berryselect.backend.budget.repository.MonthlyCategorySummaryRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AI 분석 single-flight 검증
+ * - openai.api.url을 로컬 스텁 서버로 바꿔 실제 HTTP 호출 횟수를 셈
+ */
+@SpringJUnitConfig(AiSummaryGenerationServiceTest.TestConfig.class)
+class AiSummaryGenerationServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String YEAR_MONTH = "2025-09";
+    private static final long SNAPSHOT_VERSION = 3L;
+
+    private static final HttpServer stub;
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static volatile int responseStatus = 200;
+    private static volatile CountDownLatch release = new CountDownLatch(0);
+
+    static {
+        try {
+            stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        stub.createContext("/v1/chat/completions", exchange -> {
+            hits.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = responseStatus == 200
+                    ? "{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\" 이번 달 분석 \"}}]}"
+                            .getBytes(StandardCharsets.UTF_8)
+                    : "{\"error\":{\"message\":\"server error\"}}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+    }
+
+    @DynamicPropertySource
+    static void openAiProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.key", () -> "test-key");
+        registry.add("openai.api.url",
+                () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1/chat/completions");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Autowired
+    private AiSummaryGenerationService aiSummaryGenerationService;
+
+    @Autowired
+    private OpenAiService openAiService;
+
+    @MockitoBean
+    private AnalysisReportRepository analysisReportRepository;
+
+    @MockitoBean
+    private MonthlyCategorySummaryRepository monthlyCategorySummaryRepository;
+
+    @MockitoBean
+    private MonthlyReportSnapshotService monthlyReportSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        hits.set(0);
+        responseStatus = 200;
+        release = new CountDownLatch(0);
+
+        when(monthlyReportSnapshotService.currentVersion(anyLong(), anyString())).thenReturn(SNAPSHOT_VERSION);
+        when(analysisReportRepository.findByUserIdAndYearMonthAndReportType(anyLong(), anyString(), eq(ReportType.AI)))
+                .thenReturn(List.of());
+        when(monthlyCategorySummaryRepository.findByUserIdAndYearMonthOrderByAmountSpentDesc(anyLong(), anyString()))
+                .thenReturn(List.of(MonthlyCategorySummary.builder()
+                        .userId(USER_ID)
+                        .yearMonth(YEAR_MONTH)
+                        .categoryId(1L)
+                        .amountSpent(50_000L)
+                        .amountSaved(3_000L)
+                        .txCount(7)
+                        .build()));
+    }
+
+    @Test
+    void 동시_요청은_OpenAI를_한번만_호출한다() throws Exception {
+        release = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<CompletableFuture<String>>> requests = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                requests.add(CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    return aiSummaryGenerationService.request(USER_ID, YEAR_MONTH);
+                }, pool));
+            }
+            start.countDown();
+
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (CompletableFuture<CompletableFuture<String>> r : requests) {
+                futures.add(r.get(5, TimeUnit.SECONDS));
+            }
+            release.countDown();
+
+            for (CompletableFuture<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("이번 달 분석");
+            }
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+
+        assertThat(hits.get()).isEqualTo(1);
+        ArgumentCaptor<AnalysisReport> saved = ArgumentCaptor.forClass(AnalysisReport.class);
+        verify(analysisReportRepository).save(saved.capture());
+        assertThat(saved.getValue().getContent()).isEqualTo("이번 달 분석");
+        assertThat(saved.getValue().isBuiltFrom(SNAPSHOT_VERSION)).isTrue();
+    }
+
+    @Test
+    void 호출_실패는_저장하지_않고_다음_요청에서_다시_호출한다() throws Exception {
+        responseStatus = 500;
+
+        CompletableFuture<String> failed = aiSummaryGenerationService.request(USER_ID, YEAR_MONTH);
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        verify(analysisReportRepository, never()).save(any());
+
+        responseStatus = 200;
+        assertThat(aiSummaryGenerationService.request(USER_ID, YEAR_MONTH).get(5, TimeUnit.SECONDS))
+                .isEqualTo("이번 달 분석");
+        assertThat(hits.get()).isEqualTo(2);
+    }
+
+    @Test
+    void API_키가_없을_때의_기본_분석은_저장하지_않는다() throws Exception {
+        ReflectionTestUtils.setField(openAiService, "apiKey", "");
+        try {
+            assertThat(aiSummaryGenerationService.request(USER_ID, YEAR_MONTH).get(5, TimeUnit.SECONDS))
+                    .contains("소비 분석 결과");
+        } finally {
+            ReflectionTestUtils.setField(openAiService, "apiKey", "test-key");
+        }
+
+        assertThat(hits.get()).isZero();
+        verify(analysisReportRepository, never()).save(any());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Configuration
+    @Import({AiSummaryGenerationService.class, OpenAiService.class})
+    static class TestConfig {
+
+        @Bean
+        RestTemplate restTemplate() {
+            return new RestTemplate();
+        }
+
+        @Bean
+        ThreadPoolTaskExecutor aiSummaryExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(2);
+            executor.setMaxPoolSize(2);
+            executor.setThreadNamePrefix("ai-summary-test-");
+            return executor;
+        }
+    }
+}
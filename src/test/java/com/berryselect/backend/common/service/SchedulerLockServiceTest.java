@@ -0,0 +1,104 @@
+package com.berryselect.backend.common.service;
+
+import com.berryselect.backend.common.repository.SchedulerLockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 샤드 임대 회차 검증 (H2 MySQL 모드)
+ * - 두 인스턴스(owner)가 같은 회차를 돌 때, lockAtLeast보다 오래 걸린 샤드도 한 번만 실행
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:scheduler_lock;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLockServiceTest {
+
+    private static final int SHARDS = 3;
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(10);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMillis(20);
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @AfterEach
+    void tearDown() {
+        schedulerLockRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void lockAtLeast보다_오래_걸린_샤드도_같은_회차에서는_한번만_실행된다() throws Exception {
+        SchedulerLockService instanceA = new SchedulerLockService(schedulerLockRepository, "owner-a");
+        SchedulerLockService instanceB = new SchedulerLockService(schedulerLockRepository, "owner-b");
+        List<String> runs = new CopyOnWriteArrayList<>();
+
+        // 각 샤드가 lockAtLeast보다 오래 걸림 → 반납 시점에 임대가 이미 만료된 상태
+        CompletableFuture<Integer> a = CompletableFuture.supplyAsync(() ->
+                instanceA.runSharded("job", "2025-10-01", SHARDS, LOCK_AT_MOST, LOCK_AT_LEAST,
+                        shard -> slowShard(runs, "owner-a", shard)));
+        CompletableFuture<Integer> b = CompletableFuture.supplyAsync(() ->
+                instanceB.runSharded("job", "2025-10-01", SHARDS, LOCK_AT_MOST, LOCK_AT_LEAST,
+                        shard -> slowShard(runs, "owner-b", shard)));
+
+        int processed = a.get(10, TimeUnit.SECONDS) + b.get(10, TimeUnit.SECONDS);
+
+        Map<Integer, Integer> runsByShard = new ConcurrentHashMap<>();
+        runs.forEach(run -> runsByShard.merge(Integer.parseInt(run.substring(run.indexOf('#') + 1)), 1, Integer::sum));
+        assertThat(processed).isEqualTo(SHARDS);
+        assertThat(runsByShard).containsOnlyKeys(0, 1, 2).allSatisfy((shard, count) -> assertThat(count).isEqualTo(1));
+
+        // 같은 회차로 다시 돌아도 건너뜀
+        assertThat(instanceB.runSharded("job", "2025-10-01", SHARDS, LOCK_AT_MOST, LOCK_AT_LEAST,
+                shard -> runs.add("owner-b#" + shard))).isZero();
+        assertThat(runs).hasSize(SHARDS);
+
+        // 다음 회차는 다시 실행
+        assertThat(instanceA.runSharded("job", "2025-10-02", SHARDS, LOCK_AT_MOST, LOCK_AT_LEAST,
+                shard -> runs.add("owner-a#" + shard))).isEqualTo(SHARDS);
+    }
+
+    @Test
+    void 실패한_샤드는_완료로_기록하지_않아_다른_인스턴스가_같은_회차에_이어서_실행한다() {
+        SchedulerLockService instanceA = new SchedulerLockService(schedulerLockRepository, "owner-a");
+        SchedulerLockService instanceB = new SchedulerLockService(schedulerLockRepository, "owner-b");
+
+        try {
+            instanceA.runOnce("job#0", "2025-10-01", LOCK_AT_MOST, Duration.ZERO, () -> {
+                throw new IllegalStateException("shard failed");
+            });
+        } catch (IllegalStateException expected) {
+            // 작업 예외는 호출자에게 전달
+        }
+
+        List<String> runs = new CopyOnWriteArrayList<>();
+        assertThat(instanceB.runOnce("job#0", "2025-10-01", LOCK_AT_MOST, LOCK_AT_LEAST,
+                () -> runs.add("owner-b"))).isTrue();
+        assertThat(runs).containsExactly("owner-b");
+    }
+
+    private static void slowShard(List<String> runs, String owner, int shard) {
+        runs.add(owner + "#" + shard);
+        try {
+            Thread.sleep(LOCK_AT_LEAST.toMillis() * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.berryselect.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.routing.DefaultRoutePlanner;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업스트림별 커넥션 수 제한이 클라이언트가 실제로 계획하는 route에 적용되는지 검증
+ */
+class HttpClientConfigTest {
+
+    private final DefaultRoutePlanner routePlanner = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+
+    @Test
+    void 업스트림별_커넥션_수가_계획된_https_route에_적용된다() throws Exception {
+        OutboundHttpProperties props = new OutboundHttpProperties();
+        PoolingHttpClientConnectionManager connectionManager = new HttpClientConfig().outboundConnectionManager(
+                props, new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        try {
+            for (OutboundHttpProperties.Upstream upstream : props.getUpstreams().values()) {
+                assertThat(connectionManager.getMaxPerRoute(plannedRoute("https://" + upstream.getHost())))
+                        .as(upstream.getHost())
+                        .isEqualTo(upstream.getMaxPerRoute());
+            }
+
+            // 등록되지 않은 호스트는 기본값
+            assertThat(connectionManager.getMaxPerRoute(plannedRoute("https://example.com")))
+                    .isEqualTo(props.getDefaultMaxPerRoute());
+        } finally {
+            connectionManager.close();
+        }
+    }
+
+    private HttpRoute plannedRoute(String uri) throws Exception {
+        return routePlanner.determineRoute(HttpHost.create(uri), HttpClientContext.create());
+    }
+}
@@ -0,0 +1,226 @@
+package com.berryselect.backend.notification.service;
+
+import com.berryselect.backend.auth.domain.User;
+import com.berryselect.backend.auth.repository.UserRepository;
+import com.berryselect.backend.auth.service.KakaoOauthClient;
+import com.berryselect.backend.config.JpaConfig;
+import com.berryselect.backend.notification.domain.Notification;
+import com.berryselect.backend.notification.domain.NotificationStatus;
+import com.berryselect.backend.notification.domain.NotificationType;
+import com.berryselect.backend.notification.repository.NotificationRepository;
+import com.berryselect.backend.notification.service.NotificationDispatchService.DispatchResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 발송 큐 상태 전이 검증 (H2 MySQL 모드 + 카카오 메시지 API 스텁 서버)
+ * - PENDING → SENDING(claim) → SENT / FAILED(applyResults)
+ * - 멈춘 SENDING 회수, 재시도 시각 전 FAILED 미회수
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notification_dispatch;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "kakao.message.enabled=true",
+        "notification.dispatch.sending-timeout-seconds=300",
+        "notification.retry.max-attempts=3"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({NotificationDispatchService.class, KakaoNotificationAdapter.class, KakaoTokenCache.class, JpaConfig.class,
+        NotificationDispatchServiceTest.TestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationDispatchServiceTest {
+
+    private static final HttpServer stub;
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static final AtomicReference<String> lastAuthorization = new AtomicReference<>();
+    private static volatile int responseStatus = 200;
+
+    static {
+        try {
+            stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        stub.createContext("/v2/api/talk/memo/default/send", exchange -> {
+            hits.incrementAndGet();
+            lastAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            byte[] body = (responseStatus == 200 ? "{\"result_code\":0}" : "{\"code\":-1}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+    }
+
+    @DynamicPropertySource
+    static void kakaoProperties(DynamicPropertyRegistry registry) {
+        registry.add("kakao.message.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Autowired
+    private NotificationDispatchService dispatchService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private KakaoOauthClient kakaoOauthClient;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        hits.set(0);
+        lastAuthorization.set(null);
+        responseStatus = 200;
+
+        user = userRepository.save(User.builder()
+                .provider(User.Provider.KAKAO)
+                .providerUserId("kakao-1")
+                .accessToken("access-token")
+                .tokenExpiresAt(Instant.now().plusSeconds(3600))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 발송_성공이면_PENDING에서_SENDING을_거쳐_SENT로_바뀌고_결과_코드가_기록된다() {
+        Long id = createPending().getId();
+
+        List<Notification> claimed = dispatchService.claim(10);
+        assertThat(claimed).extracting(Notification::getId).containsExactly(id);
+        assertThat(reload(id).getStatus()).isEqualTo(NotificationStatus.SENDING);
+
+        // 같은 알림을 다시 가져가지 않음
+        assertThat(dispatchService.claim(10)).isEmpty();
+
+        DispatchResult result = dispatchService.send(claimed.get(0));
+        assertThat(result.sent()).isTrue();
+        dispatchService.applyResults(List.of(result));
+
+        Notification sent = reload(id);
+        assertThat(sent.getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(sent.getKakaoResultCode()).isEqualTo("SUCCESS");
+        assertThat(sent.getSentAt()).isNotNull();
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(lastAuthorization.get()).isEqualTo("Bearer access-token");
+    }
+
+    @Test
+    void 발송_실패면_FAILED로_바뀌고_재시도_시각이_되어야_다시_가져간다() {
+        responseStatus = 500;
+        Long id = createPending().getId();
+
+        List<Notification> claimed = dispatchService.claim(10);
+        DispatchResult result = dispatchService.send(claimed.get(0));
+        assertThat(result.sent()).isFalse();
+        dispatchService.applyResults(List.of(result));
+
+        Notification failed = reload(id);
+        assertThat(failed.getStatus()).isEqualTo(NotificationStatus.FAILED);
+        assertThat(failed.getRetries()).isEqualTo(1);
+        assertThat(failed.getErrorMessage()).isNotBlank();
+        assertThat(failed.getKakaoResultCode()).isNull();
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        // 재시도 시각 전에는 가져가지 않음
+        assertThat(dispatchService.claim(10)).isEmpty();
+
+        jdbcTemplate.update("UPDATE notifications SET next_attempt_at = ? WHERE notification_id = ?",
+                LocalDateTime.now().minusSeconds(1), id);
+        assertThat(dispatchService.claim(10)).extracting(Notification::getId).containsExactly(id);
+        assertThat(reload(id).getStatus()).isEqualTo(NotificationStatus.SENDING);
+    }
+
+    @Test
+    void 발송_중_멈춘_SENDING_알림은_타임아웃이_지나면_다시_가져간다() {
+        Long id = createPending().getId();
+        assertThat(dispatchService.claim(10)).hasSize(1);
+
+        // 결과 반영 전에 인스턴스가 종료된 상황: 타임아웃 전에는 그대로 둠
+        assertThat(dispatchService.claim(10)).isEmpty();
+
+        jdbcTemplate.update("UPDATE notifications SET updated_at = ? WHERE notification_id = ?",
+                LocalDateTime.now().minusSeconds(600), id);
+        List<Notification> reclaimed = dispatchService.claim(10);
+        assertThat(reclaimed).extracting(Notification::getId).containsExactly(id);
+
+        dispatchService.applyResults(List.of(dispatchService.send(reclaimed.get(0))));
+        assertThat(reload(id).getStatus()).isEqualTo(NotificationStatus.SENT);
+    }
+
+    private Notification createPending() {
+        return notificationRepository.save(Notification.builder()
+                .user(user)
+                .notificationType(NotificationType.GIFTICON_EXPIRE)
+                .title("기프티콘 만료 알림")
+                .body("1일 후 아메리카노 기프티콘 만료")
+                .build());
+    }
+
+    private Notification reload(Long id) {
+        return notificationRepository.findById(id).orElseThrow();
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        RestTemplate restTemplate() {
+            return new RestTemplate();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}